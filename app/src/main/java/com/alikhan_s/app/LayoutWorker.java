@@ -0,0 +1,99 @@
+package com.alikhan_s.app;
+
+import com.alikhan_s.layout.ForceDirectedLayout;
+import javafx.application.Platform;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Выполняет {@link ForceDirectedLayout} в фоновом потоке и передает промежуточные
+ * координаты в поток JavaFX не чаще раза в PUBLISH_INTERVAL_NANOS. Если UI не успевает,
+ * старые снимки не копятся: в очереди FX всегда не больше одной задачи с последним снимком.
+ */
+class LayoutWorker {
+    private static final long PUBLISH_INTERVAL_NANOS = 33_000_000;
+
+    /**
+     * Снимок координат; generation отличает снимки разных запусков.
+     */
+    static final class Snapshot {
+        final long generation;
+        final double[] xs;
+        final double[] ys;
+
+        Snapshot(long generation, double[] xs, double[] ys) {
+            this.generation = generation;
+            this.xs = xs;
+            this.ys = ys;
+        }
+    }
+
+    private final Consumer<Snapshot> consumer;
+    private final AtomicReference<Snapshot> pending = new AtomicReference<>();
+    private Thread thread;
+    private volatile long generation;
+
+    /**
+     * @param consumer Получает снимки в потоке JavaFX.
+     */
+    LayoutWorker(Consumer<Snapshot> consumer) {
+        this.consumer = consumer;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Останавливает текущую укладку и запускает новую.
+     * Должен вызываться из потока JavaFX.
+     */
+    void start(ForceDirectedLayout layout) {
+        stop();
+        long runGeneration = ++generation;
+        thread = new Thread(() -> run(layout, runGeneration), "mst-layout");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Останавливает укладку; уже отправленные снимки будут отброшены по generation.
+     */
+    void stop() {
+        generation++;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    private void run(ForceDirectedLayout layout, long runGeneration) {
+        long lastPublish = System.nanoTime();
+        while (runGeneration == generation && !Thread.currentThread().isInterrupted()) {
+            boolean moved = layout.step();
+            long now = System.nanoTime();
+            if (!moved || now - lastPublish >= PUBLISH_INTERVAL_NANOS) {
+                publish(layout, runGeneration);
+                lastPublish = now;
+            }
+            if (!moved) {
+                return;
+            }
+        }
+    }
+
+    private void publish(ForceDirectedLayout layout, long runGeneration) {
+        double[] xs = new double[layout.getV()];
+        double[] ys = new double[layout.getV()];
+        layout.copyPositions(xs, ys);
+        if (pending.getAndSet(new Snapshot(runGeneration, xs, ys)) == null) {
+            Platform.runLater(() -> {
+                Snapshot snapshot = pending.getAndSet(null);
+                if (snapshot != null && snapshot.generation == generation) {
+                    consumer.accept(snapshot);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,576 @@
+package com.alikhan_s.app;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import com.alikhan_s.layout.ForceDirectedLayout;
+import com.alikhan_s.model.Edge;
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Компонент JavaFX (Pane) для визуализации графа и MST.
+ * Небольшие графы рисуются узлами сцены (Line, Text, Circle), большие - на одном Canvas:
+ * ребра одного стиля обводятся одним путем, невидимые ребра отсекаются по окну просмотра,
+ * а при малом масштабе подписи скрываются и вершины группируются по ячейкам сетки.
+ * Колесо мыши масштабирует, перетаскивание сдвигает, двойной щелчок вписывает граф в окно.
+ * <p>
+ * Позиции вершин считает силовая укладка ({@link ForceDirectedLayout}) в фоновом потоке;
+ * промежуточные координаты приходят по мере расчета, а при изменении MST укладка
+ * продолжается с текущих позиций.
+ */
+public class MSTVisualizer extends Pane {
+
+    /**
+     * Способ отрисовки.
+     */
+    public enum RenderMode {
+        /** Узлы сцены: по Line/Text на ребро и Circle/Text на вершину. */
+        NODES,
+        /** Один Canvas с отсечением и уровнями детализации. */
+        CANVAS,
+        /** NODES для небольших графов, CANVAS для остальных. */
+        AUTO
+    }
+
+    /** Граница AUTO: при большем числе ребер рисуем на Canvas. */
+    private static final int NODE_MODE_EDGE_LIMIT = 2_000;
+    /** Подписи весов и номеров выводятся, только если видно не больше стольких элементов. */
+    private static final int LABEL_LIMIT = 400;
+    /** При большем числе видимых вершин они группируются по ячейкам сетки. */
+    private static final int VERTEX_DETAIL_LIMIT = 3_000;
+    private static final double CLUSTER_CELL = 6;
+    private static final double VERTEX_RADIUS = 8;
+    private static final double MIN_SCALE = 1e-4;
+    private static final double MAX_SCALE = 1e3;
+
+    private Graph graph;
+    private Set<Edge> mstEdges;
+    private Edge removedEdge;
+    private Edge addedEdge;
+
+    /** Координаты вершин в мировой системе; NaN - вершина не рисуется. */
+    private double[] xs = new double[0];
+    private double[] ys = new double[0];
+    /** Принадлежность ребра MST по индексу ребра в graph.view(). */
+    private boolean[] mstFlags = new boolean[0];
+
+    private RenderMode renderMode = RenderMode.AUTO;
+
+    // Окно просмотра: screen = world * scale + translate
+    private double scale = 1;
+    private double translateX;
+    private double translateY;
+    private double dragX;
+    private double dragY;
+
+    private final Canvas canvas = new Canvas();
+    private final Pane nodeLayer = new Pane();
+    private boolean dirty;
+    /** Вписывать граф в окно при каждом снимке укладки, пока пользователь не сдвинул вид (сбрасывается новым графом). */
+    private boolean autoFit = true;
+    private final LayoutWorker layoutWorker = new LayoutWorker(this::applyLayoutSnapshot);
+    private int[] visibleEdges = new int[0];
+    private int[] clusterCounts = new int[0];
+
+    public MSTVisualizer() {
+        setPrefSize(600, 400);
+        setStyle("-fx-background-color: #f4f4f4; -fx-border-color: #ccc;");
+
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(widthProperty());
+        clip.heightProperty().bind(heightProperty());
+        setClip(clip);
+
+        canvas.widthProperty().bind(widthProperty());
+        canvas.heightProperty().bind(heightProperty());
+        nodeLayer.setManaged(false);
+        getChildren().addAll(canvas, nodeLayer);
+
+        widthProperty().addListener((obs, oldValue, newValue) -> requestRedraw());
+        heightProperty().addListener((obs, oldValue, newValue) -> requestRedraw());
+
+        setOnScroll(this::onScroll);
+        setOnMousePressed(this::onMousePressed);
+        setOnMouseDragged(this::onMouseDragged);
+        setOnMouseClicked(e -> {
+            if (e.getButton() == MouseButton.PRIMARY && e.getClickCount() == 2) {
+                autoFit = true;
+                fitToView();
+            }
+        });
+
+        // Перерисовка не чаще одного раза за кадр, сколько бы изменений ни пришло.
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (dirty) {
+                    dirty = false;
+                    draw();
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Устанавливает данные для визуализации и запускает перерисовку.
+     */
+    public void setData(Graph graph, Set<Edge> mstEdges, Edge removedEdge, Edge addedEdge) {
+        boolean newGraph = graph != this.graph || graph != null && xs.length != graph.getV();
+        this.graph = graph;
+        this.mstEdges = mstEdges;
+        this.removedEdge = removedEdge;
+        this.addedEdge = addedEdge;
+
+        boolean[] previousFlags = mstFlags;
+        updateMstFlags();
+
+        if (graph == null) {
+            layoutWorker.stop();
+            xs = new double[0];
+            ys = new double[0];
+        } else if (newGraph) {
+            // Сдвиг и масштаб прежнего графа к новому не относятся.
+            autoFit = true;
+            startLayout(new ForceDirectedLayout(graph.view(), mstFlags));
+        } else if (!Arrays.equals(previousFlags, mstFlags)) {
+            startLayout(new ForceDirectedLayout(graph.view(), mstFlags, xs, ys));
+        }
+        requestRedraw();
+    }
+
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    public void setRenderMode(RenderMode renderMode) {
+        this.renderMode = renderMode;
+        requestRedraw();
+    }
+
+    /**
+     * Подбирает масштаб и сдвиг так, чтобы все вершины поместились в окно.
+     */
+    public void fitToView() {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < xs.length; v++) {
+            if (Double.isNaN(xs[v])) {
+                continue;
+            }
+            minX = Math.min(minX, xs[v]);
+            maxX = Math.max(maxX, xs[v]);
+            minY = Math.min(minY, ys[v]);
+            maxY = Math.max(maxY, ys[v]);
+        }
+        double width = getWidth() > 0 ? getWidth() : getPrefWidth();
+        double height = getHeight() > 0 ? getHeight() : getPrefHeight();
+        if (minX > maxX) {
+            return;
+        }
+        double margin = 2 * VERTEX_RADIUS;
+        double spanX = Math.max(maxX - minX, 1);
+        double spanY = Math.max(maxY - minY, 1);
+        // Мировые координаты укладки - это пиксели при масштабе 1; мелкие графы не увеличиваем.
+        scale = clampScale(Math.min(1, Math.min((width - 2 * margin) / spanX, (height - 2 * margin) / spanY)));
+        translateX = (width - (minX + maxX) * scale) / 2;
+        translateY = (height - (minY + maxY) * scale) / 2;
+        requestRedraw();
+    }
+
+    /**
+     * Показывает начальные позиции укладки и запускает ее итерации в фоне.
+     */
+    private void startLayout(ForceDirectedLayout layout) {
+        double[] startX = new double[layout.getV()];
+        double[] startY = new double[layout.getV()];
+        layout.copyPositions(startX, startY);
+        xs = startX;
+        ys = startY;
+        if (autoFit) {
+            fitToView();
+        }
+        layoutWorker.start(layout);
+    }
+
+    private void applyLayoutSnapshot(LayoutWorker.Snapshot snapshot) {
+        if (graph == null || snapshot.xs.length != graph.getV()) {
+            return;
+        }
+        xs = snapshot.xs;
+        ys = snapshot.ys;
+        if (autoFit) {
+            fitToView();
+        }
+        requestRedraw();
+    }
+
+    private void updateMstFlags() {
+        if (graph == null) {
+            mstFlags = new boolean[0];
+            return;
+        }
+        mstFlags = new boolean[graph.edgeCount()];
+        if (mstEdges != null) {
+            for (Edge edge : mstEdges) {
+                int e = graph.indexOf(edge);
+                if (e >= 0) {
+                    mstFlags[e] = true;
+                }
+            }
+        }
+    }
+
+    private void requestRedraw() {
+        dirty = true;
+    }
+
+    private boolean useCanvas() {
+        return renderMode == RenderMode.CANVAS
+                || renderMode == RenderMode.AUTO && graph != null && graph.edgeCount() > NODE_MODE_EDGE_LIMIT;
+    }
+
+    /**
+     * Главный метод отрисовки.
+     */
+    private void draw() {
+        nodeLayer.getChildren().clear();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (graph == null || xs.length == 0) {
+            return;
+        }
+        if (useCanvas()) {
+            drawCanvas(gc);
+        } else {
+            drawNodes();
+        }
+    }
+
+    // --- Режим узлов сцены ---
+
+    private void drawNodes() {
+        GraphView view = graph.view();
+        for (int e = 0; e < view.edgeCount(); e++) {
+            drawGraphEdge(view.src(e), view.dest(e), Color.LIGHTGRAY, 1);
+            drawEdgeWeight(view.src(e), view.dest(e), view.weight(e), Color.GRAY);
+        }
+
+        if (mstEdges != null) {
+            for (Edge edge : mstEdges) {
+                drawGraphEdge(edge.src, edge.dest, Color.BLACK, 3);
+                drawEdgeWeight(edge.src, edge.dest, edge.getWeight(), Color.BLACK);
+            }
+        }
+
+        if (removedEdge != null) {
+            Line line = drawGraphEdge(removedEdge.src, removedEdge.dest, Color.RED, 2);
+            if (line != null) {
+                line.getStrokeDashArray().addAll(10.0, 5.0);
+            }
+
+            drawEdgeWeight(removedEdge.src, removedEdge.dest, removedEdge.getWeight(), Color.RED);
+        }
+
+        if (addedEdge != null) {
+            drawGraphEdge(addedEdge.src, addedEdge.dest, Color.GREEN, 4);
+
+            drawEdgeWeight(addedEdge.src, addedEdge.dest, addedEdge.getWeight(), Color.GREEN);
+        }
+
+        for (int vertexId = 0; vertexId < xs.length; vertexId++) {
+            if (Double.isNaN(xs[vertexId])) {
+                continue;
+            }
+            double x = screenX(vertexId);
+            double y = screenY(vertexId);
+
+            Circle circle = new Circle(x, y, 8, Color.DODGERBLUE);
+            circle.setStroke(Color.BLACK);
+
+            Text text = new Text(String.valueOf(vertexId));
+            text.setX(x - (text.getLayoutBounds().getWidth() / 2));
+            text.setY(y + 4);
+            text.setFill(Color.WHITE);
+
+            nodeLayer.getChildren().addAll(circle, text);
+        }
+    }
+
+    /**
+     * Вспомогательный метод для рисования одного ребра.
+     */
+    private Line drawGraphEdge(int src, int dest, Color color, double width) {
+        if (!isPlaced(src) || !isPlaced(dest)) return null;
+
+        Line line = new Line(screenX(src), screenY(src), screenX(dest), screenY(dest));
+        line.setStroke(color);
+        line.setStrokeWidth(width);
+
+        nodeLayer.getChildren().add(line);
+        line.toBack();
+
+        return line;
+    }
+
+    /**
+     * Вспомогательный метод для рисования веса ребра.
+     * @param src Начало ребра
+     * @param dest Конец ребра
+     * @param weight Вес ребра
+     * @param color Цвет текста
+     */
+    private void drawEdgeWeight(int src, int dest, int weight, Color color) {
+        if (!isPlaced(src) || !isPlaced(dest)) return;
+
+        String weightStr = String.valueOf(weight);
+        Text weightText = new Text(weightStr);
+
+        double midX = (screenX(src) + screenX(dest)) / 2;
+        double midY = (screenY(src) + screenY(dest)) / 2;
+
+        weightText.setX(midX + 5);
+        weightText.setY(midY - 5);
+
+        weightText.setFill(color);
+        weightText.setStyle("-fx-background-color: rgba(255, 255, 255, 0.7); -fx-padding: 1px 3px; -fx-background-radius: 3;");
+
+        nodeLayer.getChildren().add(weightText);
+    }
+
+    // --- Режим Canvas ---
+
+    private void drawCanvas(GraphicsContext gc) {
+        GraphView view = graph.view();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+
+        int visibleCount = collectVisibleEdges(view, width, height);
+        boolean edgeLabels = visibleCount <= LABEL_LIMIT;
+
+        gc.setLineDashes();
+        strokeEdges(gc, view, visibleCount, false, Color.LIGHTGRAY, 1);
+        strokeEdges(gc, view, visibleCount, true, Color.BLACK, Math.min(3, Math.max(1, 3 * scale)));
+        if (edgeLabels) {
+            gc.setTextAlign(TextAlignment.LEFT);
+            gc.setTextBaseline(VPos.BASELINE);
+            for (int i = 0; i < visibleCount; i++) {
+                int e = visibleEdges[i];
+                fillEdgeWeight(gc, view.src(e), view.dest(e), view.weight(e), mstFlags[e] ? Color.BLACK : Color.GRAY);
+            }
+        }
+
+        if (removedEdge != null && isPlaced(removedEdge.src) && isPlaced(removedEdge.dest)) {
+            gc.setLineDashes(10, 5);
+            strokeSingle(gc, removedEdge, Color.RED, 2);
+            gc.setLineDashes();
+            if (edgeLabels) {
+                fillEdgeWeight(gc, removedEdge.src, removedEdge.dest, removedEdge.getWeight(), Color.RED);
+            }
+        }
+        if (addedEdge != null && isPlaced(addedEdge.src) && isPlaced(addedEdge.dest)) {
+            strokeSingle(gc, addedEdge, Color.GREEN, 4);
+            if (edgeLabels) {
+                fillEdgeWeight(gc, addedEdge.src, addedEdge.dest, addedEdge.getWeight(), Color.GREEN);
+            }
+        }
+
+        drawCanvasVertices(gc, width, height);
+    }
+
+    /**
+     * Собирает ребра, пересекающие окно просмотра и длиннее половины пикселя.
+     * Более короткие ребра при малом масштабе все равно закрыты вершинами.
+     */
+    private int collectVisibleEdges(GraphView view, double width, double height) {
+        int E = view.edgeCount();
+        if (visibleEdges.length < E) {
+            visibleEdges = new int[E];
+        }
+        int count = 0;
+        for (int e = 0; e < E; e++) {
+            int a = view.src(e);
+            int b = view.dest(e);
+            if (!isPlaced(a) || !isPlaced(b)) {
+                continue;
+            }
+            double x1 = screenX(a);
+            double y1 = screenY(a);
+            double x2 = screenX(b);
+            double y2 = screenY(b);
+            if (Math.max(x1, x2) < 0 || Math.min(x1, x2) > width
+                    || Math.max(y1, y2) < 0 || Math.min(y1, y2) > height) {
+                continue;
+            }
+            if (Math.abs(x1 - x2) + Math.abs(y1 - y2) < 0.5 && !mstFlags[e]) {
+                continue;
+            }
+            visibleEdges[count++] = e;
+        }
+        return count;
+    }
+
+    /**
+     * Обводит одним путем все видимые ребра одного стиля (MST или нет).
+     */
+    private void strokeEdges(GraphicsContext gc, GraphView view, int visibleCount, boolean mst, Color color, double lineWidth) {
+        gc.setStroke(color);
+        gc.setLineWidth(lineWidth);
+        gc.beginPath();
+        for (int i = 0; i < visibleCount; i++) {
+            int e = visibleEdges[i];
+            if (mstFlags[e] != mst) {
+                continue;
+            }
+            gc.moveTo(screenX(view.src(e)), screenY(view.src(e)));
+            gc.lineTo(screenX(view.dest(e)), screenY(view.dest(e)));
+        }
+        gc.stroke();
+    }
+
+    private void strokeSingle(GraphicsContext gc, Edge edge, Color color, double lineWidth) {
+        gc.setStroke(color);
+        gc.setLineWidth(lineWidth);
+        gc.strokeLine(screenX(edge.src), screenY(edge.src), screenX(edge.dest), screenY(edge.dest));
+    }
+
+    private void fillEdgeWeight(GraphicsContext gc, int src, int dest, int weight, Color color) {
+        double midX = (screenX(src) + screenX(dest)) / 2;
+        double midY = (screenY(src) + screenY(dest)) / 2;
+        gc.setFill(color);
+        gc.fillText(String.valueOf(weight), midX + 5, midY - 5);
+    }
+
+    /**
+     * Рисует видимые вершины кругами, а если их слишком много - точками по ячейкам сетки,
+     * размер точки растет с числом вершин в ячейке.
+     */
+    private void drawCanvasVertices(GraphicsContext gc, double width, double height) {
+        int visibleVertices = 0;
+        for (int v = 0; v < xs.length; v++) {
+            if (isPlaced(v) && isOnScreen(v, width, height, VERTEX_RADIUS)) {
+                visibleVertices++;
+            }
+        }
+
+        if (visibleVertices <= VERTEX_DETAIL_LIMIT) {
+            double radius = Math.max(2, Math.min(VERTEX_RADIUS, VERTEX_RADIUS * scale));
+            boolean labels = visibleVertices <= LABEL_LIMIT && radius == VERTEX_RADIUS;
+            gc.setLineWidth(1);
+            gc.setStroke(Color.BLACK);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+            for (int v = 0; v < xs.length; v++) {
+                if (!isPlaced(v) || !isOnScreen(v, width, height, radius)) {
+                    continue;
+                }
+                double x = screenX(v);
+                double y = screenY(v);
+                gc.setFill(Color.DODGERBLUE);
+                gc.fillOval(x - radius, y - radius, 2 * radius, 2 * radius);
+                gc.strokeOval(x - radius, y - radius, 2 * radius, 2 * radius);
+                if (labels) {
+                    gc.setFill(Color.WHITE);
+                    gc.fillText(String.valueOf(v), x, y);
+                }
+            }
+            return;
+        }
+
+        int columns = (int) Math.ceil(width / CLUSTER_CELL);
+        int rows = (int) Math.ceil(height / CLUSTER_CELL);
+        if (clusterCounts.length < columns * rows) {
+            clusterCounts = new int[columns * rows];
+        } else {
+            Arrays.fill(clusterCounts, 0, columns * rows, 0);
+        }
+        for (int v = 0; v < xs.length; v++) {
+            if (!isPlaced(v) || !isOnScreen(v, width, height, 0)) {
+                continue;
+            }
+            int column = Math.min(columns - 1, (int) (screenX(v) / CLUSTER_CELL));
+            int row = Math.min(rows - 1, (int) (screenY(v) / CLUSTER_CELL));
+            clusterCounts[row * columns + column]++;
+        }
+        gc.setFill(Color.DODGERBLUE);
+        for (int cell = 0; cell < columns * rows; cell++) {
+            int count = clusterCounts[cell];
+            if (count == 0) {
+                continue;
+            }
+            double radius = Math.min(CLUSTER_CELL / 2, 1 + Math.log(count));
+            double x = (cell % columns + 0.5) * CLUSTER_CELL;
+            double y = (cell / columns + 0.5) * CLUSTER_CELL;
+            gc.fillOval(x - radius, y - radius, 2 * radius, 2 * radius);
+        }
+    }
+
+    // --- Окно просмотра ---
+
+    private void onScroll(ScrollEvent e) {
+        if (e.getDeltaY() == 0) {
+            return;
+        }
+        double factor = Math.pow(1.1, e.getDeltaY() / 40);
+        double newScale = clampScale(scale * factor);
+        factor = newScale / scale;
+        translateX = e.getX() - (e.getX() - translateX) * factor;
+        translateY = e.getY() - (e.getY() - translateY) * factor;
+        scale = newScale;
+        autoFit = false;
+        requestRedraw();
+        e.consume();
+    }
+
+    private void onMousePressed(MouseEvent e) {
+        dragX = e.getX();
+        dragY = e.getY();
+    }
+
+    private void onMouseDragged(MouseEvent e) {
+        translateX += e.getX() - dragX;
+        translateY += e.getY() - dragY;
+        dragX = e.getX();
+        dragY = e.getY();
+        autoFit = false;
+        requestRedraw();
+    }
+
+    private static double clampScale(double value) {
+        return Math.max(MIN_SCALE, Math.min(MAX_SCALE, value));
+    }
+
+    private boolean isPlaced(int v) {
+        return v < xs.length && !Double.isNaN(xs[v]);
+    }
+
+    private boolean isOnScreen(int v, double width, double height, double margin) {
+        double x = screenX(v);
+        double y = screenY(v);
+        return x >= -margin && x <= width + margin && y >= -margin && y <= height + margin;
+    }
+
+    private double screenX(int v) {
+        return xs[v] * scale + translateX;
+    }
+
+    private double screenY(int v) {
+        return ys[v] * scale + translateY;
+    }
+}
@@ -0,0 +1,466 @@
+package com.alikhan_s.app;
+
+import com.google.gson.JsonSyntaxException;
+import javafx.concurrent.Task;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import javafx.application.Application;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import com.alikhan_s.algorithm.MSTBuilder;
+import com.alikhan_s.algorithm.MSTStrategy;
+import com.alikhan_s.cache.CachingMSTStrategy;
+import com.alikhan_s.cache.MSTCache;
+import com.alikhan_s.io.GraphJsonLoader;
+import com.alikhan_s.model.Edge;
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.MST;
+import com.alikhan_s.model.MSTSnapshot;
+import com.alikhan_s.simulation.SplitReconnectSimulation;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Главный класс приложения JavaFX.
+ * Управляет UI и логикой демонстрации.
+ * <p>
+ * Загрузка графа и шаги сценария выполняются фоновыми задачами ({@link Task}) в одном
+ * рабочем потоке, поэтому окно не замирает, а шаги над общим MST идут строго по очереди.
+ * Результат задачи применяется к UI одним вызовом в потоке JavaFX; результаты задач,
+ * запущенных до смены графа, отбрасываются.
+ */
+public class MainApp extends Application {
+
+    /** Сколько шагов можно отменить кнопкой "Отменить". */
+    private static final int UNDO_DEPTH = 100;
+
+    // --- Поля состояния приложения ---
+    private Graph mainGraph;
+    private SplitReconnectSimulation simulation;
+
+    // --- Фоновые задачи ---
+    /** Один поток: SplitReconnectSimulation не потокобезопасна. */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "mst-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Task<?> currentTask;
+    /** Увеличивается при смене графа; задачи прошлых эпох считаются устаревшими. */
+    private long epoch;
+
+    /**
+     * Повторное построение MST для уже виденного графа берется из кэша.
+     * Вытесненные записи хранятся в каталоге пользователя, не больше 256 МБ.
+     */
+    private final MSTCache mstCache = new MSTCache(32, 256L << 20,
+            Paths.get(System.getProperty("user.home"), ".cache", "union-divided-msts", "mst"), 256L << 20);
+
+    // --- Компоненты UI ---
+    private MSTVisualizer visualizer;
+    private TextArea logArea;
+    private Button buildBtn;
+    private Button removeBtn;
+    private Button connectBtn;
+    private Button jsonBtn;
+    private Button undoBtn;
+    private Button redoBtn;
+    private Button cancelBtn;
+    private ComboBox<String> graphSelector;
+    private Label graphLabel;
+    private ProgressBar progressBar;
+    private Label statusLabel;
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Результат шага сценария, подготовленный в фоне и применяемый к UI целиком.
+     */
+    private static final class StepResult {
+        final SplitReconnectSimulation simulation;
+        final Set<Edge> mstEdges;
+        final Edge removedEdge;
+        final Edge addedEdge;
+        final String message;
+
+        StepResult(SplitReconnectSimulation simulation, Set<Edge> mstEdges, Edge removedEdge, Edge addedEdge, String message) {
+            this.simulation = simulation;
+            this.mstEdges = mstEdges;
+            this.removedEdge = removedEdge;
+            this.addedEdge = addedEdge;
+            this.message = message;
+        }
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        BorderPane root = new BorderPane();
+
+        visualizer = new MSTVisualizer();
+        root.setCenter(visualizer);
+
+        setupControls();
+        HBox controlBox = new HBox(10, graphLabel, graphSelector, buildBtn, removeBtn, connectBtn, undoBtn, redoBtn, jsonBtn);
+        controlBox.setPadding(new Insets(10));
+        root.setTop(controlBox);
+
+        // 3. Ход операции и лог (Низ)
+        HBox statusBox = new HBox(10, progressBar, cancelBtn, statusLabel);
+        statusBox.setAlignment(Pos.CENTER_LEFT);
+        statusBox.setPadding(new Insets(5, 10, 5, 10));
+
+        logArea = new TextArea();
+        logArea.setEditable(false);
+        logArea.setPrefHeight(150);
+        root.setBottom(new VBox(statusBox, logArea));
+
+        loadSelectedGraph();
+
+        Scene scene = new Scene(root, 800, 600);
+        primaryStage.setTitle("Демонстрация MST");
+        primaryStage.setScene(scene);
+        primaryStage.show();
+    }
+
+    @Override
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Создает и настраивает кнопки управления и селектор графов.
+     */
+    private void setupControls() {
+        graphLabel = new Label("Граф:");
+        graphSelector = new ComboBox<>();
+        graphSelector.getItems().addAll("graph_demo.json", "graph_simple.json");
+        graphSelector.setValue("graph_demo.json");
+
+        graphSelector.setOnAction(e -> loadSelectedGraph());
+
+        buildBtn = new Button("Шаг 1: Построить MST");
+        buildBtn.setOnAction(e -> buildMST());
+        buildBtn.setDisable(true);
+
+        removeBtn = new Button("Шаг 2: Удалить ребро");
+        removeBtn.setOnAction(e -> removeRandomEdge());
+        removeBtn.setDisable(true);
+
+        connectBtn = new Button("Шаг 3: Найти и объединить");
+        connectBtn.setOnAction(e -> findAndConnect());
+        connectBtn.setDisable(true);
+
+        undoBtn = new Button("Отменить");
+        undoBtn.setOnAction(e -> undoStep());
+        undoBtn.setDisable(true);
+
+        redoBtn = new Button("Повторить");
+        redoBtn.setOnAction(e -> redoStep());
+        redoBtn.setDisable(true);
+
+        jsonBtn = new Button("Сериализовать в JSON");
+        jsonBtn.setOnAction(e -> serializeMST());
+        jsonBtn.setDisable(true);
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(200);
+        statusLabel = new Label();
+
+        cancelBtn = new Button("Отмена");
+        cancelBtn.setOnAction(e -> {
+            if (currentTask != null) {
+                currentTask.cancel();
+            }
+        });
+        cancelBtn.setDisable(true);
+    }
+
+    // --- Логика шагов ---
+
+    private void buildMST() {
+        Graph graph = mainGraph;
+        runTask(new Task<StepResult>() {
+            @Override
+            protected StepResult call() {
+                updateMessage("Построение MST...");
+                MSTStrategy strategy = new MSTBuilder().getBestStrategy(graph);
+                CachingMSTStrategy cached = new CachingMSTStrategy(strategy, mstCache);
+                SplitReconnectSimulation newSimulation = new SplitReconnectSimulation(graph, cached, new SplittableRandom());
+                newSimulation.enableHistory(UNDO_DEPTH);
+                newSimulation.build();
+                Set<Edge> mstEdges = newSimulation.getSnapshot().getEdges();
+                return new StepResult(newSimulation, mstEdges, null, null,
+                        "MST построен (" + strategy.getClass().getSimpleName() + "). Ребер в MST: " + mstEdges.size()
+                                + "\nКэш MST: " + mstCache.getStats());
+            }
+        }, this::applyStep, false);
+    }
+
+    private void removeRandomEdge() {
+        if (simulation == null) return;
+
+        SplitReconnectSimulation current = simulation;
+        runTask(new Task<StepResult>() {
+            @Override
+            protected StepResult call() {
+                updateMessage("Удаление ребра...");
+                // MST разделяется на компоненты вместе с удалением ребра
+                Edge removedEdge = current.removeEdge();
+                if (removedEdge == null) {
+                    return new StepResult(current, null, null, null, "Не удалось удалить ребро (MST пуст?).");
+                }
+                // Версия в истории уже без удаленного ребра
+                return new StepResult(current, current.getSnapshot().getEdges(), removedEdge, null,
+                        "Ребро " + removedEdge + " удалено. MST разделен на 2 компоненты.");
+            }
+        }, this::applyStep, false);
+    }
+
+    private void findAndConnect() {
+        if (simulation == null || !simulation.isSplit()) return;
+
+        SplitReconnectSimulation current = simulation;
+        runTask(new Task<StepResult>() {
+            @Override
+            protected StepResult call() {
+                updateMessage("Поиск соединяющего ребра...");
+                Edge connectingEdge = current.reconnect();
+                if (connectingEdge == null) {
+                    return new StepResult(current, null, null, null, "Не найдено соединяющее ребро (граф несвязный?).");
+                }
+                return new StepResult(current, current.getSnapshot().getEdges(), current.getRemovedEdge(), connectingEdge,
+                        "Найдено мин. ребро: " + connectingEdge + ". Компоненты объединены.");
+            }
+        }, this::applyStep, false);
+    }
+
+    private void undoStep() {
+        moveInHistory(true);
+    }
+
+    private void redoStep() {
+        moveInHistory(false);
+    }
+
+    /**
+     * Отмена или повтор шага: MST восстанавливается из версии истории в фоне.
+     */
+    private void moveInHistory(boolean undo) {
+        if (simulation == null) return;
+
+        SplitReconnectSimulation current = simulation;
+        runTask(new Task<StepResult>() {
+            @Override
+            protected StepResult call() {
+                updateMessage(undo ? "Отмена шага..." : "Повтор шага...");
+                MSTSnapshot snapshot = undo ? current.undo() : current.redo();
+                if (snapshot == null) {
+                    return new StepResult(current, null, null, null, undo ? "Нечего отменять." : "Нечего повторять.");
+                }
+                return new StepResult(current, snapshot.getEdges(), snapshot.getRemovedEdge(), snapshot.getAddedEdge(),
+                        (undo ? "Шаг отменен. " : "Шаг повторен. ") + "MST: " + snapshot);
+            }
+        }, this::applyStep, false);
+    }
+
+    private void serializeMST() {
+        if (simulation == null) {
+            log("Сначала постройте MST.");
+            return;
+        }
+        MST currentMST = simulation.getCurrentMST();
+        runTask(new Task<String>() {
+            @Override
+            protected String call() {
+                updateMessage("Сериализация...");
+                return gson.toJson(currentMST);
+            }
+        }, json -> {
+            log("--- JSON Сериализация currentMST ---");
+            log(json);
+            log("-------------------------------------");
+        }, false);
+    }
+
+    /**
+     * Применяет результат шага к UI: визуализация, лог и кнопки за один проход.
+     * mstEdges == null означает, что шаг не изменил дерево.
+     */
+    private void applyStep(StepResult result) {
+        simulation = result.simulation;
+        if (result.mstEdges != null) {
+            visualizer.setData(mainGraph, result.mstEdges, result.removedEdge, result.addedEdge);
+        }
+        log(result.message);
+    }
+
+    // --- Фоновые задачи ---
+
+    /**
+     * Запускает задачу в рабочем потоке. onSuccess вызывается в потоке JavaFX,
+     * только если за это время не сменился граф.
+     *
+     * @param cancellable Можно ли отменить задачу кнопкой. Это имеет смысл только для задач,
+     *                    которые сами проверяют isCancelled() (загрузка графа). Построение MST
+     *                    и сериализация не прерываются, а шаги 2 и 3 меняют общий MST,
+     *                    поэтому все они доводятся до конца.
+     */
+    private <T> void runTask(Task<T> task, Consumer<T> onSuccess, boolean cancellable) {
+        long taskEpoch = epoch;
+        currentTask = task;
+        progressBar.progressProperty().bind(task.progressProperty());
+        statusLabel.textProperty().bind(task.messageProperty());
+        setBusy(true);
+        cancelBtn.setDisable(!cancellable);
+
+        task.setOnSucceeded(e -> {
+            if (taskEpoch == epoch) {
+                onSuccess.accept(task.getValue());
+            }
+            finishTask(task);
+        });
+        task.setOnFailed(e -> {
+            if (taskEpoch == epoch) {
+                reportFailure(task.getException());
+            }
+            finishTask(task);
+        });
+        task.setOnCancelled(e -> {
+            if (taskEpoch == epoch) {
+                log("Операция отменена.");
+            }
+            finishTask(task);
+        });
+        executor.submit(task);
+    }
+
+    private void finishTask(Task<?> task) {
+        if (task != currentTask) {
+            return;
+        }
+        currentTask = null;
+        progressBar.progressProperty().unbind();
+        progressBar.setProgress(0);
+        statusLabel.textProperty().unbind();
+        statusLabel.setText("");
+        setBusy(false);
+    }
+
+    /**
+     * Пока задача выполняется, доступны только отмена и смена графа.
+     * После задачи кнопки шагов отражают фактическое состояние сценария.
+     */
+    private void setBusy(boolean busy) {
+        cancelBtn.setDisable(!busy);
+        buildBtn.setDisable(busy || mainGraph == null);
+        removeBtn.setDisable(busy || simulation == null || simulation.isSplit());
+        connectBtn.setDisable(busy || simulation == null || !simulation.isSplit());
+        jsonBtn.setDisable(busy || simulation == null);
+        undoBtn.setDisable(busy || simulation == null || !simulation.canUndo());
+        redoBtn.setDisable(busy || simulation == null || !simulation.canRedo());
+    }
+
+    private void reportFailure(Throwable error) {
+        if (error instanceof IOException) {
+            log("ОШИБКА: Не удалось прочитать файл графа. Убедись, что папка 'data' существует в корне проекта.");
+        } else if (error instanceof JsonSyntaxException) {
+            log("ОШИБКА: Некорректный синтаксис JSON.");
+            log(error.getMessage());
+        } else {
+            log("ОШИБКА: " + error);
+        }
+    }
+
+    /**
+     * Вспомогательный метод для логирования.
+     */
+    private void log(String message) {
+        logArea.appendText(message + "\n");
+    }
+
+    /**
+     * Сбрасывает состояние симуляции.
+     */
+    private void resetState() {
+        simulation = null;
+
+        visualizer.setData(mainGraph, null, null, null);
+        logArea.clear();
+
+        setBusy(currentTask != null);
+    }
+
+    /**
+     * Обработчик для ComboBox: загружает выбранный граф.
+     */
+    private void loadSelectedGraph() {
+        String filename = graphSelector.getValue();
+        if (filename == null || filename.isEmpty()) {
+            log("Файл графа не выбран.");
+            return;
+        }
+        loadGraphFromJson(filename);
+    }
+
+    /**
+     * Загружает граф из JSON-файла в фоне. Предыдущая задача отменяется,
+     * а ее результат (если она все же завершится) будет отброшен.
+     * @param filename Имя файла (в корне проекта)
+     */
+    private void loadGraphFromJson(String filename) {
+        // Используем File.separator, чтобы это работало и на Windows (\), и на Linux (/)
+        Path pathToFile = Paths.get("data" + java.io.File.separator + filename);
+
+        if (currentTask != null) {
+            currentTask.cancel();
+        }
+        epoch++;
+        mainGraph = null;
+        resetState();
+
+        runTask(new Task<Graph>() {
+            @Override
+            protected Graph call() throws IOException {
+                updateMessage("Загрузка " + filename + "...");
+                // Читаем файл потоково, сразу в примитивные массивы графа
+                return GraphJsonLoader.load(pathToFile, (bytesRead, totalBytes, edgesRead) -> {
+                    if (isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    updateProgress(bytesRead, totalBytes);
+                    updateMessage("Загрузка " + filename + ": ребер " + edgesRead);
+                });
+            }
+        }, graph -> {
+            // Сбрасываем симуляцию
+            mainGraph = graph;
+            resetState();
+            log("Граф успешно загружен из: " + filename);
+        }, true);
+    }
+
+    /**
+     * Точка входа.
+     */
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
@@ -0,0 +1,25 @@
+package com.alikhan_s.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входа benchmarks.jar: запускает бенчмарки с профилировщиком GC,
+ * чтобы вместе со временем выводить скорость аллокаций (gc.alloc.rate.norm).
+ * <p>
+ * Аргумент - регулярное выражение для имен бенчмарков (по умолчанию все).
+ * Для полного набора опций JMH используйте {@code java -cp benchmarks.jar org.openjdk.jmh.Main}.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "com\\.alikhan_s\\.bench\\..*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.algorithm.BottleneckPathIndex;
+import com.alikhan_s.algorithm.KruskalMST;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Запросы "самое тяжелое ребро на пути" к {@link BottleneckPathIndex}: построение индекса,
+ * одиночные запросы и пакет из QUERIES пар. Время запросов - на одну пару.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BottleneckQueryBenchmark {
+    private static final int QUERIES = 1 << 16;
+
+    private int[] mst;
+    private BottleneckPathIndex index;
+    private int[] us;
+    private int[] vs;
+
+    @Setup(Level.Trial)
+    public void setUp(GraphState state) {
+        mst = new KruskalMST().buildMSTIndices(state.view);
+        index = BottleneckPathIndex.build(state.view, mst);
+        SplittableRandom random = new SplittableRandom(state.seed);
+        us = new int[QUERIES];
+        vs = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            us[i] = random.nextInt(state.vertices);
+            vs[i] = random.nextInt(state.vertices);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public BottleneckPathIndex build(GraphState state) {
+        return BottleneckPathIndex.build(state.view, mst);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int singleQueries() {
+        int sum = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            sum += index.maxEdge(us[i], vs[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int[] batchedQueries() {
+        return index.maxEdges(us, vs);
+    }
+}
@@ -0,0 +1,115 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.algorithm.CrossEdgeScan;
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.GraphView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск самого легкого ребра между двумя компонентами ({@link CrossEdgeScan}):
+ * прежний просмотр с наборами {@code Set<Integer>}, скалярный цикл по меткам
+ * и векторный (Vector API). Вершины случайно разбиты на components компонент,
+ * ищется ребро между компонентами 0 и 1.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class CrossEdgeScanBenchmark {
+    @Param({"200000", "1000000"})
+    public int vertices;
+
+    @Param("16")
+    public int density;
+
+    @Param({"2", "64"})
+    public int components;
+
+    @Param("42")
+    public long seed;
+
+    private int[] src;
+    private int[] dest;
+    private int[] weight;
+    private int edgeCount;
+    private int[] label;
+    private Set<Integer> first;
+    private Set<Integer> second;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Graph graph = GraphFactory.generate(vertices, density, WeightDistribution.UNIFORM, seed);
+        GraphView view = graph.view();
+        edgeCount = view.edgeCount();
+        src = new int[edgeCount];
+        dest = new int[edgeCount];
+        weight = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            src[e] = view.src(e);
+            dest[e] = view.dest(e);
+            weight[e] = view.weight(e);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        label = new int[vertices];
+        first = new HashSet<>();
+        second = new HashSet<>();
+        for (int v = 0; v < vertices; v++) {
+            label[v] = random.nextInt(components);
+            if (label[v] == 0) {
+                first.add(v);
+            } else if (label[v] == 1) {
+                second.add(v);
+            }
+        }
+    }
+
+    /**
+     * Прежний вариант {@code MST.findMinEdgeBetween}: принадлежность компоненте - по наборам вершин.
+     */
+    @Benchmark
+    public int boxedSetScan() {
+        int minEdge = -1;
+        for (int e = 0; e < edgeCount; e++) {
+            if (minEdge != -1 && weight[e] >= weight[minEdge]) {
+                continue;
+            }
+            if ((first.contains(src[e]) && second.contains(dest[e]))
+                    || (first.contains(dest[e]) && second.contains(src[e]))) {
+                minEdge = e;
+            }
+        }
+        return minEdge;
+    }
+
+    @Benchmark
+    public int scalarScan() {
+        return CrossEdgeScan.scalarMinCrossEdge(src, dest, weight, edgeCount, label, 0, 1);
+    }
+
+    /**
+     * Векторная реализация, если модуль jdk.incubator.vector подключен (см. {@code @Fork}).
+     */
+    @Benchmark
+    public int vectorScan() {
+        return CrossEdgeScan.minCrossEdge(src, dest, weight, edgeCount, label, 0, 1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.algorithm.ConcurrentDisjointSetUnion;
+import com.alikhan_s.algorithm.DisjointSetUnion;
+import com.alikhan_s.model.GraphView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Система непересекающихся множеств на потоке объединений по ребрам графа
+ * (в порядке хранения, без сортировки - изолирует стоимость find/union).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisjointSetUnionBenchmark {
+
+    @Benchmark
+    public int unionAll(GraphState state) {
+        GraphView view = state.view;
+        DisjointSetUnion dsu = new DisjointSetUnion(view.getV());
+        int merged = 0;
+        for (int e = 0; e < view.edgeCount(); e++) {
+            if (dsu.union(view.src(e), view.dest(e))) {
+                merged++;
+            }
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public int concurrentUnionAll(GraphState state) {
+        GraphView view = state.view;
+        ConcurrentDisjointSetUnion dsu = new ConcurrentDisjointSetUnion(view.getV());
+        int merged = 0;
+        for (int e = 0; e < view.edgeCount(); e++) {
+            if (dsu.union(view.src(e), view.dest(e))) {
+                merged++;
+            }
+        }
+        return merged;
+    }
+}
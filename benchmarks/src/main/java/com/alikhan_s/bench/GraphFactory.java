@@ -0,0 +1,48 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.model.Graph;
+
+import java.util.SplittableRandom;
+
+/**
+ * Генератор связных случайных графов для бенчмарков.
+ * Сначала строится случайное остовное дерево (граф гарантированно связен),
+ * затем добавляются случайные ребра до нужной средней степени.
+ */
+public final class GraphFactory {
+
+    private GraphFactory() {
+    }
+
+    /**
+     * @param V       Количество вершин.
+     * @param density Средняя степень вершины: E ≈ V * density / 2.
+     * @param weights Распределение весов.
+     * @param seed    Зерно генератора; один и тот же seed дает один и тот же граф.
+     */
+    public static Graph generate(int V, int density, WeightDistribution weights, long seed) {
+        if (V < 2 || density < 2) {
+            throw new IllegalArgumentException("Нужно V >= 2 и density >= 2");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int edgeCount = (int) Math.max(V - 1, (long) V * density / 2);
+        int[] src = new int[edgeCount];
+        int[] dest = new int[edgeCount];
+        int[] weight = new int[edgeCount];
+
+        int e = 0;
+        for (int v = 1; v < V; v++, e++) {
+            src[e] = random.nextInt(v);
+            dest[e] = v;
+            weight[e] = weights.next(random);
+        }
+        for (; e < edgeCount; e++) {
+            int a = random.nextInt(V);
+            int b = random.nextInt(V - 1);
+            src[e] = a;
+            dest[e] = b >= a ? b + 1 : b;
+            weight[e] = weights.next(random);
+        }
+        return Graph.fromArrays(V, src, dest, weight, edgeCount);
+    }
+}
@@ -0,0 +1,37 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.GraphView;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Общий граф для бенчмарков: один на всю серию замеров с данными параметрами.
+ * Количество ребер задается через density: E = V * density / 2.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+    @Param({"10000", "200000"})
+    public int vertices;
+
+    @Param({"4", "16"})
+    public int density;
+
+    @Param({"UNIFORM", "NARROW", "SKEWED"})
+    public WeightDistribution weights;
+
+    @Param("42")
+    public long seed;
+
+    public Graph graph;
+    public GraphView view;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphFactory.generate(vertices, density, weights, seed);
+        view = graph.view();
+    }
+}
@@ -0,0 +1,39 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.algorithm.KruskalMST;
+import com.alikhan_s.model.Edge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Построение MST алгоритмом Краскала: индексы ребер и совместимый API с набором Edge.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KruskalBenchmark {
+    private final KruskalMST kruskal = new KruskalMST();
+
+    @Benchmark
+    public int[] buildIndices(GraphState state) {
+        return kruskal.buildMSTIndices(state.view);
+    }
+
+    @Benchmark
+    public Set<Edge> buildEdgeSet(GraphState state) {
+        return kruskal.buildMST(state.graph);
+    }
+}
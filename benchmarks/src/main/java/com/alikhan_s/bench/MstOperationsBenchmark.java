@@ -0,0 +1,123 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.algorithm.KruskalMST;
+import com.alikhan_s.algorithm.ReplacementEdges;
+import com.alikhan_s.model.Edge;
+import com.alikhan_s.model.MST;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Отдельные операции над MST: splitIntoComponents, findMinEdgeBetween, unionWith,
+ * а также полный цикл "удалить - переподключить" (шаг 2 -> шаг 3 в MainApp).
+ * <p>
+ * Для отдельных операций подготовка и откат выполняются на уровне вызова
+ * (Level.Invocation) и в замер не входят; у очень коротких операций это добавляет
+ * заметный накладной шум, поэтому сравнивать их стоит между собой, а не в абсолютных числах.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MstOperationsBenchmark {
+
+    /**
+     * Дерево с только что удаленным ребром (до splitIntoComponents).
+     */
+    @State(Scope.Thread)
+    public static class Removed {
+        MstState state;
+
+        @Setup(Level.Invocation)
+        public void remove(MstState mstState) {
+            state = mstState;
+            state.mst.removeEdgeRandomInMiddleRange();
+        }
+
+        @TearDown(Level.Invocation)
+        public void reconnect() {
+            state.reconnect(state.mst.splitIntoComponents());
+        }
+    }
+
+    /**
+     * Дерево, уже разделенное на две компоненты.
+     */
+    @State(Scope.Thread)
+    public static class Split {
+        MstState state;
+        List<MST> components;
+        Edge connecting;
+
+        @Setup(Level.Invocation)
+        public void split(MstState mstState) {
+            state = mstState;
+            components = state.removeAndSplit();
+            connecting = components.get(0).findMinEdgeBetween(components.get(1));
+        }
+
+        @TearDown(Level.Invocation)
+        public void reconnect() {
+            if (components != null) {
+                state.reconnect(components);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<MST> splitIntoComponents(Removed removed) {
+        return removed.state.mst.splitIntoComponents();
+    }
+
+    @Benchmark
+    public Edge findMinEdgeBetween(Split split) {
+        return split.components.get(0).findMinEdgeBetween(split.components.get(1));
+    }
+
+    @Benchmark
+    public MST unionWith(Split split) {
+        MST joined = split.components.get(0).unionWith(split.components.get(1), split.connecting);
+        split.state.mst = joined;
+        split.components = null;
+        return joined;
+    }
+
+    @Benchmark
+    public MST removeAndReconnect(MstState state) {
+        state.reconnect(state.removeAndSplit());
+        return state.mst;
+    }
+
+    /**
+     * Холодный путь findMinEdgeBetween: построение таблицы замен после изменения дерева.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ReplacementEdges replacementTable(GraphState state, TreeIndices tree) {
+        return ReplacementEdges.compute(state.view, tree.indices);
+    }
+
+    @State(Scope.Benchmark)
+    public static class TreeIndices {
+        int[] indices;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            indices = new KruskalMST().buildMSTIndices(state.view);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.alikhan_s.bench;
+
+import com.alikhan_s.algorithm.KruskalMST;
+import com.alikhan_s.model.Edge;
+import com.alikhan_s.model.MST;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * MST над графом из {@link GraphState}; у каждого потока свое дерево, так как операции его меняют.
+ * Вспомогательные методы повторяют шаги MainApp: шаг 2 - удаление и разделение,
+ * шаг 3 - поиск соединяющего ребра и объединение.
+ */
+@State(Scope.Thread)
+public class MstState {
+    public MST mst;
+
+    @Setup(Level.Trial)
+    public void setUp(GraphState graphState) {
+        mst = new MST(graphState.graph, new KruskalMST().buildMST(graphState.graph));
+    }
+
+    /**
+     * Шаг 2: удаляет ребро из середины диапазона и делит дерево на компоненты.
+     */
+    List<MST> removeAndSplit() {
+        mst.removeEdgeRandomInMiddleRange();
+        return mst.splitIntoComponents();
+    }
+
+    /**
+     * Шаг 3: соединяет компоненты самым легким ребром между ними.
+     */
+    void reconnect(List<MST> components) {
+        Edge connecting = components.get(0).findMinEdgeBetween(components.get(1));
+        mst = components.get(0).unionWith(components.get(1), connecting);
+    }
+}
@@ -0,0 +1,32 @@
+package com.alikhan_s.bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * Распределение весов ребер в сгенерированных графах.
+ */
+public enum WeightDistribution {
+    /** Равномерно в [1, 1_000_000]: повторов почти нет. */
+    UNIFORM {
+        @Override
+        int next(SplittableRandom random) {
+            return random.nextInt(1, 1_000_001);
+        }
+    },
+    /** Равномерно в [1, 10]: много ребер с одинаковым весом. */
+    NARROW {
+        @Override
+        int next(SplittableRandom random) {
+            return random.nextInt(1, 11);
+        }
+    },
+    /** Экспоненциальное: большинство ребер легкие, редкие - очень тяжелые. */
+    SKEWED {
+        @Override
+        int next(SplittableRandom random) {
+            return 1 + (int) Math.min(1_000_000, -Math.log(1 - random.nextDouble()) * 1_000);
+        }
+    };
+
+    abstract int next(SplittableRandom random);
+}
@@ -0,0 +1,285 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Параллельная реализация алгоритма Борувки.
+ * В каждом раунде для каждой компоненты параллельно ищется самое легкое
+ * исходящее ребро, затем компоненты параллельно сливаются через
+ * {@link ConcurrentDisjointSetUnion}, а граф стягивается:
+ * ребра внутри одной компоненты отбрасываются, вершины перенумеровываются.
+ * Ребра сравниваются по паре (вес, индекс), поэтому при равных весах
+ * результат совпадает с {@link KruskalMST}.
+ */
+public class BoruvkaMST implements MSTStrategy {
+    private static final long NO_EDGE = Long.MAX_VALUE;
+    private static final int MIN_CHUNK = 4096;
+
+    private final int parallelism;
+
+    public BoruvkaMST() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism Уровень параллелизма пула fork-join.
+     */
+    public BoruvkaMST(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Уровень параллелизма должен быть положительным");
+        }
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public int[] buildMSTIndices(GraphView view) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return build(view, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private int[] build(GraphView view, ForkJoinPool pool) {
+        int V = view.getV();
+        int m = view.edgeCount();
+
+        // Текущий (стянутый) граф: исходный индекс ребра и номера компонент концов.
+        int[] edges = new int[m];
+        int[] compSrc = new int[m];
+        int[] compDest = new int[m];
+        int count = 0;
+        for (int e = 0; e < m; e++) {
+            if (view.src(e) != view.dest(e)) {
+                edges[count] = e;
+                compSrc[count] = view.src(e);
+                compDest[count] = view.dest(e);
+                count++;
+            }
+        }
+
+        int components = V;
+        int[] mstResult = new int[Math.max(V - 1, 0)];
+        int accepted = 0;
+
+        while (count > 0 && accepted < mstResult.length) {
+            AtomicLongArray cheapest = new AtomicLongArray(components);
+            for (int c = 0; c < components; c++) {
+                cheapest.set(c, NO_EDGE);
+            }
+            pool.invoke(new CheapestEdgeTask(view, edges, compSrc, compDest, cheapest, 0, count, chunk(count)));
+
+            ConcurrentDisjointSetUnion dsu = new ConcurrentDisjointSetUnion(components);
+            boolean[] merged = new boolean[components];
+            int[] relabel = new int[components];
+            pool.invoke(new MergeTask(compSrc, compDest, cheapest, dsu, merged, 0, components, chunk(components)));
+            for (int c = 0; c < components; c++) {
+                if (merged[c]) {
+                    mstResult[accepted++] = edges[(int) cheapest.get(c)];
+                }
+            }
+
+            pool.invoke(new RootTask(dsu, relabel, 0, components, chunk(components)));
+            int[] renumber = new int[components];
+            Arrays.fill(renumber, -1);
+            int next = 0;
+            for (int c = 0; c < components; c++) {
+                int root = relabel[c];
+                if (renumber[root] < 0) {
+                    renumber[root] = next++;
+                }
+                relabel[c] = renumber[root];
+            }
+            if (next == components) {
+                break;
+            }
+            components = next;
+
+            pool.invoke(new RelabelTask(compSrc, compDest, relabel, 0, count, chunk(count)));
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (compSrc[i] != compDest[i]) {
+                    edges[kept] = edges[i];
+                    compSrc[kept] = compSrc[i];
+                    compDest[kept] = compDest[i];
+                    kept++;
+                }
+            }
+            count = kept;
+        }
+
+        return accepted == mstResult.length ? mstResult : Arrays.copyOf(mstResult, accepted);
+    }
+
+    private int chunk(int count) {
+        return Math.max(MIN_CHUNK, count / (parallelism * 4));
+    }
+
+    /**
+     * Параллельный поиск самого легкого ребра для каждой компоненты.
+     * Ключ - вес в старших 32 битах и позиция ребра в текущем списке в младших;
+     * минимум обновляется через CAS. Позиции упорядочены так же, как исходные индексы,
+     * поэтому равные веса разрешаются одинаково с Крускалом.
+     */
+    private static final class CheapestEdgeTask extends RecursiveAction {
+        private final GraphView view;
+        private final int[] edges;
+        private final int[] compSrc;
+        private final int[] compDest;
+        private final AtomicLongArray cheapest;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        CheapestEdgeTask(GraphView view, int[] edges, int[] compSrc, int[] compDest,
+                         AtomicLongArray cheapest, int from, int to, int chunk) {
+            this.view = view;
+            this.edges = edges;
+            this.compSrc = compSrc;
+            this.compDest = compDest;
+            this.cheapest = cheapest;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CheapestEdgeTask(view, edges, compSrc, compDest, cheapest, from, mid, chunk),
+                        new CheapestEdgeTask(view, edges, compSrc, compDest, cheapest, mid, to, chunk));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                long key = ((long) view.weight(edges[i]) << 32) | i;
+                updateMin(compSrc[i], key);
+                updateMin(compDest[i], key);
+            }
+        }
+
+        private void updateMin(int component, long key) {
+            long current = cheapest.get(component);
+            while (key < current && !cheapest.compareAndSet(component, current, key)) {
+                current = cheapest.get(component);
+            }
+        }
+    }
+
+    /**
+     * Параллельное слияние компонент по выбранным ребрам через конкурентный union-find.
+     * Выбранные ребра образуют лес, поэтому union не удается только для ребра,
+     * выбранного обеими компонентами; такое ребро засчитывается один раз.
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private final int[] compSrc;
+        private final int[] compDest;
+        private final AtomicLongArray cheapest;
+        private final ConcurrentDisjointSetUnion dsu;
+        private final boolean[] merged;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        MergeTask(int[] compSrc, int[] compDest, AtomicLongArray cheapest, ConcurrentDisjointSetUnion dsu,
+                  boolean[] merged, int from, int to, int chunk) {
+            this.compSrc = compSrc;
+            this.compDest = compDest;
+            this.cheapest = cheapest;
+            this.dsu = dsu;
+            this.merged = merged;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new MergeTask(compSrc, compDest, cheapest, dsu, merged, from, mid, chunk),
+                        new MergeTask(compSrc, compDest, cheapest, dsu, merged, mid, to, chunk));
+                return;
+            }
+            for (int c = from; c < to; c++) {
+                long key = cheapest.get(c);
+                if (key != NO_EDGE) {
+                    int i = (int) key;
+                    merged[c] = dsu.union(compSrc[i], compDest[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Параллельный поиск корня каждой компоненты после слияния.
+     */
+    private static final class RootTask extends RecursiveAction {
+        private final ConcurrentDisjointSetUnion dsu;
+        private final int[] roots;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        RootTask(ConcurrentDisjointSetUnion dsu, int[] roots, int from, int to, int chunk) {
+            this.dsu = dsu;
+            this.roots = roots;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RootTask(dsu, roots, from, mid, chunk), new RootTask(dsu, roots, mid, to, chunk));
+                return;
+            }
+            for (int c = from; c < to; c++) {
+                roots[c] = dsu.find(c);
+            }
+        }
+    }
+
+    /**
+     * Параллельная перенумерация концов ребер после слияния компонент.
+     */
+    private static final class RelabelTask extends RecursiveAction {
+        private final int[] compSrc;
+        private final int[] compDest;
+        private final int[] relabel;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        RelabelTask(int[] compSrc, int[] compDest, int[] relabel, int from, int to, int chunk) {
+            this.compSrc = compSrc;
+            this.compDest = compDest;
+            this.relabel = relabel;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RelabelTask(compSrc, compDest, relabel, from, mid, chunk),
+                        new RelabelTask(compSrc, compDest, relabel, mid, to, chunk));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                compSrc[i] = relabel[compSrc[i]];
+                compDest[i] = relabel[compDest[i]];
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Индекс запросов "самое тяжелое ребро на пути" (minimax, bottleneck) по построенному MST.
+ * <p>
+ * Строится дерево реконструкции Крускала: листья - вершины графа, каждое ребро MST
+ * (в порядке вес, индекс) создает внутренний узел, родительский для двух объединяемых
+ * компонент. Самое тяжелое ребро на пути u - v в MST - это ребро узла LCA(u, v).
+ * LCA ищется по тяжелым путям (heavy-light), поэтому запрос стоит O(log n), а индекс
+ * занимает O(V) памяти без таблиц двоичных подъемов.
+ * <p>
+ * После построения индекс неизменяем, и запросы можно выполнять из любых потоков;
+ * пакетные методы распределяют пары вершин по пулу fork-join.
+ */
+public final class BottleneckPathIndex {
+    private static final int MIN_CHUNK = 4096;
+
+    private final GraphView view;
+    private final int V;
+    /** Узлы 0..V-1 - вершины, V + i - i-е ребро MST; у корней parent = -1. */
+    private final int[] parent;
+    private final int[] nodeEdge;
+    private final int[] depth;
+    private final int[] head;
+    private final int[] root;
+
+    private BottleneckPathIndex(GraphView view, int[] parent, int[] nodeEdge, int[] depth, int[] head, int[] root) {
+        this.view = view;
+        this.V = view.getV();
+        this.parent = parent;
+        this.nodeEdge = nodeEdge;
+        this.depth = depth;
+        this.head = head;
+        this.root = root;
+    }
+
+    /**
+     * Строит индекс за O(V log V).
+     *
+     * @param view       Представление графа.
+     * @param mstIndices Индексы ребер MST (или остовного леса) в любом порядке.
+     * @throws IllegalArgumentException если ребра образуют цикл.
+     */
+    public static BottleneckPathIndex build(GraphView view, int[] mstIndices) {
+        int V = view.getV();
+        int k = mstIndices.length;
+        long[] keys = new long[k];
+        for (int i = 0; i < k; i++) {
+            keys[i] = ((long) view.weight(mstIndices[i]) << 32) | mstIndices[i];
+        }
+        Arrays.sort(keys);
+
+        int n = V + k;
+        int[] parent = new int[n];
+        int[] nodeEdge = new int[k];
+        Arrays.fill(parent, -1);
+        // top[r] - текущий корень дерева реконструкции для компоненты с представителем r.
+        int[] top = new int[V];
+        for (int v = 0; v < V; v++) {
+            top[v] = v;
+        }
+        DisjointSetUnion dsu = new DisjointSetUnion(V);
+        for (int i = 0; i < k; i++) {
+            int e = (int) keys[i];
+            int a = dsu.find(view.src(e));
+            int b = dsu.find(view.dest(e));
+            if (a == b) {
+                throw new IllegalArgumentException("Ребра не образуют лес: ребро " + e + " замыкает цикл");
+            }
+            int node = V + i;
+            nodeEdge[i] = e;
+            parent[top[a]] = node;
+            parent[top[b]] = node;
+            dsu.union(a, b);
+            top[dsu.find(a)] = node;
+        }
+
+        // Родитель всегда создан позже потомка, поэтому размеры считаются проходом по возрастанию,
+        // а глубины и тяжелые пути - проходом по убыванию номеров.
+        int[] size = new int[n];
+        int[] heavy = new int[n];
+        Arrays.fill(heavy, -1);
+        for (int x = 0; x < n; x++) {
+            size[x]++;
+            int p = parent[x];
+            if (p >= 0) {
+                size[p] += size[x];
+                if (heavy[p] < 0 || size[x] > size[heavy[p]]) {
+                    heavy[p] = x;
+                }
+            }
+        }
+        int[] depth = new int[n];
+        int[] head = new int[n];
+        int[] root = new int[n];
+        for (int x = n - 1; x >= 0; x--) {
+            int p = parent[x];
+            if (p < 0) {
+                head[x] = x;
+                root[x] = x;
+            } else {
+                depth[x] = depth[p] + 1;
+                head[x] = heavy[p] == x ? head[p] : x;
+                root[x] = root[p];
+            }
+        }
+        return new BottleneckPathIndex(view, parent, nodeEdge, depth, head, root);
+    }
+
+    public GraphView getView() {
+        return view;
+    }
+
+    /**
+     * Индекс самого тяжелого (по паре вес, индекс) ребра на пути u - v в MST.
+     *
+     * @return Индекс ребра в графе или -1, если u == v или вершины в разных деревьях.
+     */
+    public int maxEdge(int u, int v) {
+        if (u == v || root[u] != root[v]) {
+            return -1;
+        }
+        return nodeEdge[lca(u, v) - V];
+    }
+
+    /**
+     * Связаны ли u и v ребрами веса не больше threshold
+     * (лежат ли они в одном кластере при обрезке MST по порогу).
+     */
+    public boolean connectedAtThreshold(int u, int v, int threshold) {
+        if (u == v) {
+            return true;
+        }
+        int e = maxEdge(u, v);
+        return e >= 0 && view.weight(e) <= threshold;
+    }
+
+    /**
+     * Пакетный вариант {@link #maxEdge} в общем пуле fork-join.
+     */
+    public int[] maxEdges(int[] us, int[] vs) {
+        return maxEdges(us, vs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Пакетный вариант {@link #maxEdge}: result[i] = maxEdge(us[i], vs[i]).
+     *
+     * @throws IllegalArgumentException если массивы разной длины.
+     */
+    public int[] maxEdges(int[] us, int[] vs, ForkJoinPool pool) {
+        checkLengths(us, vs);
+        int[] result = new int[us.length];
+        pool.invoke(new QueryTask(this, us, vs, result, null, 0, 0, us.length, chunk(us.length, pool)));
+        return result;
+    }
+
+    /**
+     * Пакетный вариант {@link #connectedAtThreshold} в общем пуле fork-join.
+     */
+    public boolean[] connectedAtThreshold(int[] us, int[] vs, int threshold) {
+        return connectedAtThreshold(us, vs, threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Пакетный вариант {@link #connectedAtThreshold}.
+     *
+     * @throws IllegalArgumentException если массивы разной длины.
+     */
+    public boolean[] connectedAtThreshold(int[] us, int[] vs, int threshold, ForkJoinPool pool) {
+        checkLengths(us, vs);
+        boolean[] result = new boolean[us.length];
+        pool.invoke(new QueryTask(this, us, vs, null, result, threshold, 0, us.length, chunk(us.length, pool)));
+        return result;
+    }
+
+    /**
+     * LCA двух узлов одного дерева: подъем по тяжелым путям.
+     */
+    private int lca(int u, int v) {
+        while (head[u] != head[v]) {
+            if (depth[head[u]] > depth[head[v]]) {
+                u = parent[head[u]];
+            } else {
+                v = parent[head[v]];
+            }
+        }
+        return depth[u] < depth[v] ? u : v;
+    }
+
+    private static void checkLengths(int[] us, int[] vs) {
+        if (us.length != vs.length) {
+            throw new IllegalArgumentException("Массивы вершин разной длины");
+        }
+    }
+
+    private static int chunk(int count, ForkJoinPool pool) {
+        return Math.max(MIN_CHUNK, count / (pool.getParallelism() * 4));
+    }
+
+    /**
+     * Параллельная обработка диапазона пар; заполняет edges или connected.
+     */
+    private static final class QueryTask extends RecursiveAction {
+        private final BottleneckPathIndex index;
+        private final int[] us;
+        private final int[] vs;
+        private final int[] edges;
+        private final boolean[] connected;
+        private final int threshold;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        QueryTask(BottleneckPathIndex index, int[] us, int[] vs, int[] edges, boolean[] connected,
+                  int threshold, int from, int to, int chunk) {
+            this.index = index;
+            this.us = us;
+            this.vs = vs;
+            this.edges = edges;
+            this.connected = connected;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunk) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new QueryTask(index, us, vs, edges, connected, threshold, from, mid, chunk),
+                        new QueryTask(index, us, vs, edges, connected, threshold, mid, to, chunk));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (edges != null) {
+                    edges[i] = index.maxEdge(us[i], vs[i]);
+                } else {
+                    connected[i] = index.connectedAtThreshold(us[i], vs[i], threshold);
+                }
+            }
+        }
+    }
+}
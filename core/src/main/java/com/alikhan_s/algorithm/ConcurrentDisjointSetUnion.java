@@ -0,0 +1,127 @@
+package com.alikhan_s.algorithm;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Потокобезопасная система непересекающихся множеств без блокировок.
+ * Хранится в одном AtomicIntegerArray: у некорневой вершины там индекс родителя,
+ * у корня - размер множества со знаком минус. Связывание корней выполняется через CAS
+ * (меньшее множество подвешивается к большему), find использует деление пути пополам.
+ * Размеры множеств точны, когда все параллельные объединения завершены.
+ */
+public class ConcurrentDisjointSetUnion {
+    private final AtomicIntegerArray parent;
+
+    public ConcurrentDisjointSetUnion(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, -1);
+        }
+    }
+
+    public int size() {
+        return parent.length();
+    }
+
+    /**
+     * Находит представителя множества, к которому принадлежит i.
+     * Возвращенный корень мог быть уже подвешен другим потоком.
+     */
+    public int find(int i) {
+        while (true) {
+            int p = parent.get(i);
+            if (p < 0) {
+                return i;
+            }
+            int grandparent = parent.get(p);
+            if (grandparent < 0) {
+                return p;
+            }
+            parent.compareAndSet(i, p, grandparent);
+            i = grandparent;
+        }
+    }
+
+    /**
+     * Проверяет, лежат ли x и y в одном множестве.
+     */
+    public boolean sameSet(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return true;
+            }
+            // Корни разные; ответ верен, если rootX все еще корень.
+            if (parent.get(rootX) < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Объединяет множества, содержащие x и y.
+     *
+     * @return true, если именно этот вызов объединил два разных множества.
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return false;
+            }
+            int sizeX = parent.get(rootX);
+            int sizeY = parent.get(rootY);
+            if (sizeX >= 0 || sizeY >= 0) {
+                continue;
+            }
+
+            // Размеры отрицательные: большее множество имеет меньшее значение.
+            int child;
+            int root;
+            int childSize;
+            if (sizeX > sizeY || (sizeX == sizeY && rootX > rootY)) {
+                child = rootX;
+                childSize = sizeX;
+                root = rootY;
+            } else {
+                child = rootY;
+                childSize = sizeY;
+                root = rootX;
+            }
+
+            if (parent.compareAndSet(child, childSize, root)) {
+                addSize(root, childSize);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Количество элементов в множестве, содержащем i.
+     */
+    public int setSize(int i) {
+        while (true) {
+            int root = find(i);
+            int size = parent.get(root);
+            if (size < 0) {
+                return -size;
+            }
+        }
+    }
+
+    /**
+     * Прибавляет размер подвешенного множества к текущему корню.
+     * Если корень успели подвесить, размер переносится к новому корню.
+     */
+    private void addSize(int root, int delta) {
+        while (true) {
+            int r = find(root);
+            int size = parent.get(r);
+            if (size < 0 && parent.compareAndSet(r, size, size + delta)) {
+                return;
+            }
+        }
+    }
+}
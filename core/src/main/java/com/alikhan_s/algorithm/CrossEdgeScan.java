@@ -0,0 +1,69 @@
+package com.alikhan_s.algorithm;
+
+/**
+ * Поиск самого легкого ребра между двумя компонентами по массивам src/dest/weight
+ * и массиву меток компонент (label[v] - метка компоненты вершины v).
+ * <p>
+ * Если JVM запущена с {@code --add-modules jdk.incubator.vector}, используется векторная
+ * реализация (Vector API): метки концов собираются gather-загрузкой, сравнение дает маску,
+ * минимум считается маскированной редукцией. Иначе, а также при {@code -Dmst.simd=false},
+ * работает скалярный цикл. Обе реализации возвращают одно и то же ребро.
+ */
+public final class CrossEdgeScan {
+    /**
+     * Включена ли векторная реализация (решается один раз при загрузке класса).
+     */
+    public static final boolean VECTORIZED = Boolean.parseBoolean(System.getProperty("mst.simd", "true"))
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private CrossEdgeScan() {
+    }
+
+    /**
+     * Индекс самого легкого (по паре вес, индекс) ребра среди первых edgeCount,
+     * один конец которого имеет метку a, а другой - метку b.
+     *
+     * @return Индекс ребра или -1, если таких ребер нет.
+     * @throws IllegalArgumentException если a == b.
+     */
+    public static int minCrossEdge(int[] src, int[] dest, int[] weight, int edgeCount, int[] label, int a, int b) {
+        if (VECTORIZED) {
+            checkLabels(a, b);
+            return VectorCrossEdgeScan.minCrossEdge(src, dest, weight, edgeCount, label, a, b);
+        }
+        return scalarMinCrossEdge(src, dest, weight, edgeCount, label, a, b);
+    }
+
+    /**
+     * Скалярная реализация {@link #minCrossEdge}; метки читаются только у ребер
+     * легче текущего минимума.
+     */
+    public static int scalarMinCrossEdge(int[] src, int[] dest, int[] weight, int edgeCount, int[] label, int a, int b) {
+        checkLabels(a, b);
+        return scalarMinCrossEdge(src, dest, weight, 0, edgeCount, label, a, b, -1);
+    }
+
+    /**
+     * Скалярный просмотр ребер [from, to), начиная с найденного ранее best (или -1).
+     */
+    static int scalarMinCrossEdge(int[] src, int[] dest, int[] weight, int from, int to, int[] label,
+                                  int a, int b, int best) {
+        for (int e = from; e < to; e++) {
+            if (best != -1 && weight[e] >= weight[best]) {
+                continue;
+            }
+            int ls = label[src[e]];
+            int ld = label[dest[e]];
+            if ((ls == a && ld == b) || (ls == b && ld == a)) {
+                best = e;
+            }
+        }
+        return best;
+    }
+
+    private static void checkLabels(int a, int b) {
+        if (a == b) {
+            throw new IllegalArgumentException("Метки компонент совпадают: " + a);
+        }
+    }
+}
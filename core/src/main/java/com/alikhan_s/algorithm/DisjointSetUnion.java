@@ -0,0 +1,67 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.metrics.Histogram;
+import com.alikhan_s.metrics.Metrics;
+
+/**
+ * Реализация системы непересекающихся множеств (Union-Find)
+ * с оптимизациями: сжатие пути (path halving) и объединение по рангу (union by rank).
+ * Не потокобезопасна; для параллельного кода см. {@link ConcurrentDisjointSetUnion}.
+ */
+public class DisjointSetUnion {
+    private static final Histogram FIND_PATH_LENGTH = Metrics.histogram("dsu.find.pathLength");
+
+    private final int[] parent;
+    private final int[] rank;
+
+    public DisjointSetUnion(int n) {
+        parent = new int[n];
+        rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            rank[i] = 0;
+        }
+    }
+
+    /**
+     * Находит представителя (корень) множества, к которому принадлежит i.
+     * Итеративный обход с делением пути пополам: каждая вершина на пути
+     * перевешивается на своего "деда", поэтому стек не растет на длинных цепочках.
+     */
+    public int find(int i) {
+        int steps = 0;
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+            steps++;
+        }
+        if (Metrics.ENABLED) {
+            FIND_PATH_LENGTH.record(steps);
+        }
+        return i;
+    }
+
+    /**
+     * Объединяет два множества, содержащие x и y.
+     * Использует объединение по рангу.
+     *
+     * @return true, если множества были разными и объединились.
+     */
+    public boolean union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+
+        if (rootX == rootY) {
+            return false;
+        }
+        if (rank[rootX] < rank[rootY]) {
+            parent[rootX] = rootY;
+        } else if (rank[rootX] > rank[rootY]) {
+            parent[rootY] = rootX;
+        } else {
+            parent[rootY] = rootX;
+            rank[rootX]++;
+        }
+        return true;
+    }
+}
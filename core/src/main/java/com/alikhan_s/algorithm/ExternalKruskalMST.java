@@ -0,0 +1,484 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.GraphView;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Алгоритм Крускала во внешней памяти для графов, ребра которых не помещаются в куче.
+ * <p>
+ * Ребра подаются потоком через {@link #add}; каждые runSize ребер сортируются поразрядно
+ * по весу и записываются на диск отдельным прогоном. Затем прогоны сливаются k-путевым
+ * слиянием (не больше {@link #MAX_FAN_IN} за раз), и упорядоченный поток ребер проходит через
+ * {@link DisjointSetUnion} размера V. Порядок ребер - пара (вес, номер ребра во входном
+ * потоке), как у {@link KruskalMST}, поэтому результат совпадает с обычным Крускалом.
+ * <p>
+ * С фильтрацией каждый прогон перед записью заменяется своим остовным лесом, а
+ * промежуточные слияния - остовным лесом объединения: ребро, самое тяжелое на цикле внутри
+ * части графа, тяжелее всех ребер этого цикла и во всем графе, а значит, не входит в MST.
+ * На диск тогда попадает не больше V - 1 ребра на прогон, и в куче нужно только O(V)
+ * памяти плюс буферы. Без фильтрации на диск пишутся все ребра.
+ * <p>
+ * Ввод-вывод идет через {@link FileChannel} с прямыми буферами. Временные файлы создаются
+ * в заданном каталоге и удаляются в {@link #finish} или {@link #close}. Не потокобезопасен.
+ */
+public final class ExternalKruskalMST implements Closeable {
+    /** Размер прогона по умолчанию, в ребрах: около 28 байт кучи на ребро вместе с сортировкой. */
+    public static final int DEFAULT_RUN_SIZE = 1 << 21;
+    /** Наибольшее число прогонов, сливаемых за один проход. */
+    public static final int MAX_FAN_IN = 64;
+
+    /** Запись на диске: src, dest, weight (int) и номер ребра во входе (long). */
+    private static final int RECORD_BYTES = 20;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final int V;
+    private final Path workDirectory;
+    private final boolean filter;
+
+    private final int[] runSrc;
+    private final int[] runDest;
+    private final int[] runWeight;
+    private int runLength;
+    private long nextId;
+
+    private final List<Path> runs = new ArrayList<>();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long bytesWritten;
+    private int runsWritten;
+    private boolean finished;
+
+    /**
+     * Фильтрация включена, размер прогона - {@link #DEFAULT_RUN_SIZE}.
+     */
+    public ExternalKruskalMST(int V, Path workDirectory) {
+        this(V, workDirectory, DEFAULT_RUN_SIZE, true);
+    }
+
+    /**
+     * @param workDirectory Каталог для временных файлов прогонов.
+     * @param runSize       Число ребер в одном прогоне (объем сортировки в памяти).
+     * @param filter        Заменять прогоны их остовными лесами перед записью.
+     * @throws IllegalArgumentException если V < 0 или runSize < 1.
+     */
+    public ExternalKruskalMST(int V, Path workDirectory, int runSize, boolean filter) {
+        if (V < 0 || runSize < 1) {
+            throw new IllegalArgumentException("Нужно V >= 0 и runSize >= 1");
+        }
+        this.V = V;
+        this.workDirectory = workDirectory;
+        this.filter = filter;
+        this.runSrc = new int[runSize];
+        this.runDest = new int[runSize];
+        this.runWeight = new int[runSize];
+    }
+
+    /**
+     * Строит MST по представлению графа, читая ребра по порядку (например, для
+     * {@link com.alikhan_s.model.GraphView}, отображенного из файла).
+     */
+    public static Result compute(GraphView view, Path workDirectory, int runSize, boolean filter) throws IOException {
+        try (ExternalKruskalMST kruskal = new ExternalKruskalMST(view.getV(), workDirectory, runSize, filter)) {
+            for (int e = 0; e < view.edgeCount(); e++) {
+                kruskal.add(view.src(e), view.dest(e), view.weight(e));
+            }
+            return kruskal.finish();
+        }
+    }
+
+    /**
+     * Добавляет следующее ребро входного потока; его номер - число ребер, добавленных до него.
+     *
+     * @throws IllegalArgumentException если вершина вне диапазона [0, V).
+     * @throws IllegalStateException    если {@link #finish} уже вызван.
+     */
+    public void add(int src, int dest, int weight) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Построение уже завершено");
+        }
+        if (src < 0 || src >= V || dest < 0 || dest >= V) {
+            throw new IllegalArgumentException("Вершина ребра вне диапазона: " + src + " - " + dest);
+        }
+        runSrc[runLength] = src;
+        runDest[runLength] = dest;
+        runWeight[runLength] = weight;
+        runLength++;
+        nextId++;
+        if (runLength == runSrc.length) {
+            spillRun();
+        }
+    }
+
+    /**
+     * Сливает прогоны и возвращает остовный лес. Временные файлы удаляются.
+     */
+    public Result finish() throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Построение уже завершено");
+        }
+        finished = true;
+        try {
+            spillRun();
+            while (runs.size() > MAX_FAN_IN) {
+                // Группы уровня берутся из начала списка, результаты добавляются в конец.
+                // Группа покидает runs только после слияния и удаления ее файлов,
+                // поэтому при ошибке close() видит все оставшиеся файлы.
+                int remaining = runs.size();
+                while (remaining > 0) {
+                    int groupSize = Math.min(MAX_FAN_IN, remaining);
+                    List<Path> group = new ArrayList<>(runs.subList(0, groupSize));
+                    runs.add(mergeToRun(group));
+                    deleteAll(group);
+                    runs.subList(0, groupSize).clear();
+                    remaining -= groupSize;
+                }
+            }
+            return mergeFinal(runs);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Удаляет оставшиеся временные файлы.
+     */
+    @Override
+    public void close() throws IOException {
+        deleteAll(runs);
+        runs.clear();
+    }
+
+    // --- Прогоны ---
+
+    /**
+     * Сортирует накопленные ребра (устойчиво, поэтому при равном весе сохраняется порядок
+     * номеров) и записывает их в новый прогон.
+     */
+    private void spillRun() throws IOException {
+        if (runLength == 0) {
+            return;
+        }
+        int[] order = new int[runLength];
+        int[] keys = new int[runLength];
+        for (int i = 0; i < runLength; i++) {
+            order[i] = i;
+            keys[i] = runWeight[i] ^ Integer.MIN_VALUE;
+        }
+        RadixSort.sort(order, keys);
+
+        long firstId = nextId - runLength;
+        Path run = newRunFile();
+        runs.add(run);
+        try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+            DisjointSetUnion dsu = filter ? new DisjointSetUnion(V) : null;
+            int accepted = 0;
+            for (int i = 0; i < runLength && (dsu == null || accepted < V - 1); i++) {
+                int e = order[i];
+                if (dsu != null && !dsu.union(runSrc[e], runDest[e])) {
+                    continue;
+                }
+                accepted++;
+                write(out, runSrc[e], runDest[e], runWeight[e], firstId + e);
+            }
+            flush(out);
+        }
+        runLength = 0;
+    }
+
+    /**
+     * Сливает группу прогонов в один; с фильтрацией оставляет только остовный лес группы.
+     */
+    private Path mergeToRun(List<Path> group) throws IOException {
+        Path run = newRunFile();
+        try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE);
+             Merger merger = new Merger(group)) {
+            DisjointSetUnion dsu = filter ? new DisjointSetUnion(V) : null;
+            int accepted = 0;
+            while ((dsu == null || accepted < V - 1) && merger.next()) {
+                RunReader r = merger.current;
+                if (dsu != null && !dsu.union(r.src, r.dest)) {
+                    continue;
+                }
+                accepted++;
+                write(out, r.src, r.dest, r.weight, r.id);
+            }
+            flush(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    private Result mergeFinal(List<Path> group) throws IOException {
+        int capacity = Math.max(V - 1, 0);
+        int[] src = new int[capacity];
+        int[] dest = new int[capacity];
+        int[] weight = new int[capacity];
+        long[] ids = new long[capacity];
+        int accepted = 0;
+        long totalWeight = 0;
+        DisjointSetUnion dsu = new DisjointSetUnion(V);
+        try (Merger merger = new Merger(group)) {
+            while (accepted < capacity && merger.next()) {
+                RunReader r = merger.current;
+                if (dsu.union(r.src, r.dest)) {
+                    src[accepted] = r.src;
+                    dest[accepted] = r.dest;
+                    weight[accepted] = r.weight;
+                    ids[accepted] = r.id;
+                    totalWeight += r.weight;
+                    accepted++;
+                }
+            }
+        }
+        Graph forest = Graph.fromArrays(V, Arrays.copyOf(src, accepted), Arrays.copyOf(dest, accepted),
+                Arrays.copyOf(weight, accepted), accepted);
+        return new Result(forest, Arrays.copyOf(ids, accepted), totalWeight, nextId, runsWritten, bytesWritten);
+    }
+
+    private Path newRunFile() throws IOException {
+        Files.createDirectories(workDirectory);
+        runsWritten++;
+        return Files.createTempFile(workDirectory, "kruskal-run-", ".edges");
+    }
+
+    private void write(FileChannel out, int src, int dest, int weight, long id) throws IOException {
+        if (writeBuffer.remaining() < RECORD_BYTES) {
+            flush(out);
+        }
+        writeBuffer.putInt(src).putInt(dest).putInt(weight).putLong(id);
+    }
+
+    private void flush(FileChannel out) throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            bytesWritten += out.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    private static void deleteAll(List<Path> paths) throws IOException {
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    // --- Слияние ---
+
+    /**
+     * Последовательное чтение прогона через буфер.
+     */
+    private static final class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        int src;
+        int dest;
+        int weight;
+        long id;
+
+        RunReader(Path path, int bufferSize) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            buffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+        }
+
+        /**
+         * Читает следующую запись в поля.
+         *
+         * @return false в конце прогона.
+         */
+        boolean next() throws IOException {
+            if (buffer.remaining() < RECORD_BYTES) {
+                buffer.compact();
+                while (buffer.position() < RECORD_BYTES) {
+                    if (channel.read(buffer) < 0) {
+                        buffer.flip();
+                        if (buffer.hasRemaining()) {
+                            throw new IOException("Обрезанная запись в файле прогона");
+                        }
+                        return false;
+                    }
+                }
+                buffer.flip();
+            }
+            src = buffer.getInt();
+            dest = buffer.getInt();
+            weight = buffer.getInt();
+            id = buffer.getLong();
+            return true;
+        }
+
+        /**
+         * Порядок Крускала: вес, затем номер ребра во входе.
+         */
+        boolean before(RunReader other) {
+            return weight != other.weight ? weight < other.weight : id < other.id;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * k-путевое слияние прогонов на двоичной куче читателей.
+     */
+    private static final class Merger implements Closeable {
+        private final RunReader[] heap;
+        private int size;
+        private boolean started;
+        RunReader current;
+
+        Merger(List<Path> group) throws IOException {
+            heap = new RunReader[group.size()];
+            // Буферы делят между собой примерно BUFFER_SIZE байт на все слияние, но не меньше 64 КБ.
+            int bufferSize = Math.max(64 << 10, BUFFER_SIZE / Math.max(group.size(), 1) / RECORD_BYTES * RECORD_BYTES);
+            try {
+                for (Path path : group) {
+                    RunReader reader = new RunReader(path, bufferSize);
+                    heap[size++] = reader;
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Переходит к следующему по порядку ребру.
+         *
+         * @return false, если все прогоны исчерпаны.
+         */
+        boolean next() throws IOException {
+            if (!started) {
+                started = true;
+                int filled = 0;
+                for (int i = 0; i < size; i++) {
+                    if (heap[i].next()) {
+                        heap[filled++] = heap[i];
+                    } else {
+                        heap[i].close();
+                    }
+                }
+                size = filled;
+                for (int i = size / 2 - 1; i >= 0; i--) {
+                    siftDown(i);
+                }
+            } else if (current != null) {
+                if (current.next()) {
+                    siftDown(0);
+                } else {
+                    current.close();
+                    heap[0] = heap[--size];
+                    heap[size] = null;
+                    siftDown(0);
+                }
+            }
+            current = size > 0 ? heap[0] : null;
+            return current != null;
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && heap[left].before(heap[smallest])) {
+                    smallest = left;
+                }
+                if (right < size && heap[right].before(heap[smallest])) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                RunReader swap = heap[i];
+                heap[i] = heap[smallest];
+                heap[smallest] = swap;
+                i = smallest;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (int i = 0; i < size; i++) {
+                heap[i].close();
+            }
+            size = 0;
+        }
+    }
+
+    /**
+     * Результат построения: остовный лес как граф из V вершин и принятых ребер.
+     */
+    public static final class Result {
+        private final Graph forest;
+        private final long[] edgeIds;
+        private final long totalWeight;
+        private final long edgesRead;
+        private final int runsWritten;
+        private final long bytesWritten;
+
+        private Result(Graph forest, long[] edgeIds, long totalWeight, long edgesRead, int runsWritten,
+                       long bytesWritten) {
+            this.forest = forest;
+            this.edgeIds = edgeIds;
+            this.totalWeight = totalWeight;
+            this.edgesRead = edgesRead;
+            this.runsWritten = runsWritten;
+            this.bytesWritten = bytesWritten;
+        }
+
+        /**
+         * Ребра MST в порядке их принятия (по возрастанию веса).
+         */
+        public Graph getForest() {
+            return forest;
+        }
+
+        /**
+         * Номера ребер MST во входном потоке, в том же порядке, что и ребра {@link #getForest()}.
+         */
+        public long[] getEdgeIds() {
+            return edgeIds.clone();
+        }
+
+        public long getTotalWeight() {
+            return totalWeight;
+        }
+
+        public long getEdgesRead() {
+            return edgesRead;
+        }
+
+        /**
+         * Число прогонов, записанных на диск, включая промежуточные слияния.
+         */
+        public int getRunsWritten() {
+            return runsWritten;
+        }
+
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ребер MST: %d, вес: %d, прочитано ребер: %d, прогонов: %d, записано: %d КБ",
+                    forest.edgeCount(), totalWeight, edgesRead, runsWritten, bytesWritten / 1024);
+        }
+    }
+}
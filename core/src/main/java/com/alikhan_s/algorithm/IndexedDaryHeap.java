@@ -0,0 +1,131 @@
+package com.alikhan_s.algorithm;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Индексированная d-арная min-куча над элементами 0..n-1 с целочисленными ключами.
+ * Поддерживает уменьшение ключа (decrease-key) за O(log_d n).
+ * Все данные хранятся в примитивных массивах.
+ */
+public class IndexedDaryHeap {
+    private final int arity;
+    private final int[] heap;
+    private final int[] position;
+    private final int[] keys;
+    private int size;
+
+    /**
+     * @param n     Количество элементов (элементы - индексы 0..n-1).
+     * @param arity Число потомков у узла (d >= 2).
+     */
+    public IndexedDaryHeap(int n, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Арность кучи должна быть не меньше 2");
+        }
+        this.arity = arity;
+        this.heap = new int[n];
+        this.position = new int[n];
+        this.keys = new int[n];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    public int keyOf(int item) {
+        return keys[item];
+    }
+
+    /**
+     * Добавляет элемент или уменьшает его ключ, если новый ключ меньше текущего.
+     *
+     * @return true, если куча изменилась.
+     */
+    public boolean insertOrDecrease(int item, int key) {
+        if (position[item] < 0) {
+            keys[item] = key;
+            position[item] = size;
+            heap[size] = item;
+            siftUp(size++);
+            return true;
+        }
+        if (key < keys[item]) {
+            keys[item] = key;
+            siftUp(position[item]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Извлекает элемент с минимальным ключом.
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        int key = keys[item];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentItem = heap[parent];
+            if (keys[parentItem] <= key) {
+                break;
+            }
+            heap[i] = parentItem;
+            position[parentItem] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        int key = keys[item];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (keys[heap[c]] < keys[heap[best]]) {
+                    best = c;
+                }
+            }
+            if (keys[heap[best]] >= key) {
+                break;
+            }
+            heap[i] = heap[best];
+            position[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+}
@@ -0,0 +1,67 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.metrics.Counter;
+import com.alikhan_s.metrics.Histogram;
+import com.alikhan_s.metrics.KruskalBuildEvent;
+import com.alikhan_s.metrics.Metrics;
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+
+/**
+ * Реализация алгоритма Крускала для построения MST.
+ */
+public class KruskalMST implements MSTStrategy {
+    private static final Histogram SORT_NANOS = Metrics.histogram("kruskal.sort.nanos");
+    private static final Counter EDGES_SCANNED = Metrics.counter("kruskal.edges.scanned");
+    private static final Counter UNIONS = Metrics.counter("kruskal.unions");
+
+    /**
+     * Строит MST по алгоритму Крускала: ребра сортируются поразрядно по весу,
+     * обход останавливается, как только принято V-1 ребро.
+     *
+     * @return Индексы ребер MST в порядке их добавления.
+     */
+    @Override
+    public int[] buildMSTIndices(GraphView view) {
+        KruskalBuildEvent event = new KruskalBuildEvent();
+        event.begin();
+        boolean timed = Metrics.ENABLED || event.isEnabled();
+        long sortStart = timed ? System.nanoTime() : 0;
+
+        int V = view.getV();
+        int[] order = RadixSort.sortEdgesByWeight(view);
+        long sortNanos = timed ? System.nanoTime() - sortStart : 0;
+
+        DisjointSetUnion dsu = new DisjointSetUnion(V);
+        int[] mstResult = new int[Math.max(V - 1, 0)];
+        int accepted = 0;
+        int i = 0;
+
+        for (; i < order.length && accepted < mstResult.length; i++) {
+            int e = order[i];
+            int rootSrc = dsu.find(view.src(e));
+            int rootDest = dsu.find(view.dest(e));
+
+            if (rootSrc != rootDest) {
+                mstResult[accepted++] = e;
+                dsu.union(rootSrc, rootDest);
+            }
+        }
+
+        if (Metrics.ENABLED) {
+            SORT_NANOS.record(sortNanos);
+            EDGES_SCANNED.add(i);
+            UNIONS.add(accepted);
+        }
+        if (event.shouldCommit()) {
+            event.vertices = V;
+            event.edges = view.edgeCount();
+            event.sortNanos = sortNanos;
+            event.edgesScanned = i;
+            event.unions = accepted;
+            event.commit();
+        }
+        return accepted == mstResult.length ? mstResult : Arrays.copyOf(mstResult, accepted);
+    }
+}
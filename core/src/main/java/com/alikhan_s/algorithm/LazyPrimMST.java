@@ -0,0 +1,107 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+
+/**
+ * Ленивый вариант алгоритма Прима.
+ * Вместо уменьшения ключа в кучу кладутся все ребра, выходящие из дерева,
+ * а устаревшие пропускаются при извлечении. Куча хранит упакованные ключи
+ * (вес, индекс ребра) в массиве long, что выгодно на разреженных графах.
+ */
+public class LazyPrimMST implements MSTStrategy {
+
+    @Override
+    public int[] buildMSTIndices(GraphView view) {
+        int V = view.getV();
+        boolean[] inTree = new boolean[V];
+        LongMinHeap heap = new LongMinHeap(16);
+        int[] mstResult = new int[Math.max(V - 1, 0)];
+        int accepted = 0;
+
+        for (int start = 0; start < V && accepted < mstResult.length; start++) {
+            if (inTree[start]) {
+                continue;
+            }
+            visit(view, start, inTree, heap);
+
+            while (!heap.isEmpty()) {
+                int e = (int) heap.poll();
+                int src = view.src(e);
+                int dest = view.dest(e);
+                if (inTree[src] && inTree[dest]) {
+                    continue;
+                }
+                mstResult[accepted++] = e;
+                visit(view, inTree[src] ? dest : src, inTree, heap);
+            }
+        }
+
+        return accepted == mstResult.length ? mstResult : Arrays.copyOf(mstResult, accepted);
+    }
+
+    private static void visit(GraphView view, int u, boolean[] inTree, LongMinHeap heap) {
+        inTree[u] = true;
+        for (int i = view.adjacencyStart(u); i < view.adjacencyEnd(u); i++) {
+            int e = view.adjacentEdge(i);
+            if (!inTree[view.other(e, u)]) {
+                heap.add(((long) view.weight(e) << 32) | e);
+            }
+        }
+    }
+
+    /**
+     * Двоичная min-куча над примитивными long.
+     */
+    private static final class LongMinHeap {
+        private long[] items;
+        private int size;
+
+        LongMinHeap(int capacity) {
+            items = new long[capacity];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(long item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (items[parent] <= item) {
+                    break;
+                }
+                items[i] = items[parent];
+                i = parent;
+            }
+            items[i] = item;
+        }
+
+        long poll() {
+            long top = items[0];
+            long item = items[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && items[child + 1] < items[child]) {
+                    child++;
+                }
+                if (items[child] >= item) {
+                    break;
+                }
+                items[i] = items[child];
+                i = child;
+            }
+            items[i] = item;
+            return top;
+        }
+    }
+}
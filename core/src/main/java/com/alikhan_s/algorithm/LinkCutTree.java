@@ -0,0 +1,226 @@
+package com.alikhan_s.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Динамический лес на link-cut деревьях (Слейтор - Тарьян).
+ * Операции link, cut, проверка связности и максимум на пути выполняются
+ * за амортизированное O(log n). Узлы - индексы 0..n-1, у каждого узла есть
+ * значение типа long; {@link #pathMax} возвращает узел с максимальным значением.
+ * Чтобы хранить веса ребер, ребро обычно представляют отдельным узлом между
+ * двумя вершинами. Все данные лежат в примитивных массивах; класс не потокобезопасен.
+ */
+public class LinkCutTree {
+    private final int[] left;
+    private final int[] right;
+    private final int[] parent;
+    private final boolean[] reversed;
+    private final long[] value;
+    private final int[] maxNode;
+    private final int[] stack;
+
+    public LinkCutTree(int n) {
+        left = new int[n];
+        right = new int[n];
+        parent = new int[n];
+        reversed = new boolean[n];
+        value = new long[n];
+        maxNode = new int[n];
+        stack = new int[n];
+        Arrays.fill(left, -1);
+        Arrays.fill(right, -1);
+        Arrays.fill(parent, -1);
+        Arrays.fill(value, Long.MIN_VALUE);
+        for (int i = 0; i < n; i++) {
+            maxNode[i] = i;
+        }
+    }
+
+    public int size() {
+        return left.length;
+    }
+
+    /**
+     * Задает значение узла.
+     */
+    public void setValue(int x, long v) {
+        access(x);
+        value[x] = v;
+        update(x);
+    }
+
+    public long getValue(int x) {
+        return value[x];
+    }
+
+    /**
+     * Соединяет деревья, содержащие u и v, ребром u-v.
+     *
+     * @throws IllegalArgumentException если u и v уже в одном дереве.
+     */
+    public void link(int u, int v) {
+        makeRoot(u);
+        if (findRoot(v) == u) {
+            throw new IllegalArgumentException("Узлы уже в одном дереве: " + u + ", " + v);
+        }
+        parent[u] = v;
+    }
+
+    /**
+     * Удаляет ребро u-v.
+     *
+     * @throws IllegalArgumentException если узлы не соединены ребром напрямую.
+     */
+    public void cut(int u, int v) {
+        makeRoot(u);
+        access(v);
+        splay(v);
+        if (left[v] == u) {
+            pushDown(u);
+        }
+        if (left[v] != u || right[u] != -1 || left[u] != -1) {
+            throw new IllegalArgumentException("Между узлами нет ребра: " + u + ", " + v);
+        }
+        left[v] = -1;
+        parent[u] = -1;
+        update(v);
+    }
+
+    public boolean connected(int u, int v) {
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+    /**
+     * Корень дерева, содержащего x (после makeRoot - последний выбранный корень).
+     */
+    public int findRoot(int x) {
+        access(x);
+        splay(x);
+        int r = x;
+        while (true) {
+            pushDown(r);
+            if (left[r] == -1) {
+                break;
+            }
+            r = left[r];
+        }
+        splay(r);
+        return r;
+    }
+
+    /**
+     * Возвращает узел с максимальным значением на пути u-v.
+     *
+     * @throws IllegalArgumentException если u и v в разных деревьях.
+     */
+    public int pathMax(int u, int v) {
+        makeRoot(u);
+        if (findRoot(v) != u) {
+            throw new IllegalArgumentException("Узлы в разных деревьях: " + u + ", " + v);
+        }
+        access(v);
+        splay(v);
+        return maxNode[v];
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        splay(x);
+        reversed[x] ^= true;
+    }
+
+    private void access(int x) {
+        int last = -1;
+        for (int y = x; y != -1; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            update(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == -1 || (left[p] != x && right[p] != x);
+    }
+
+    private void splay(int x) {
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            stack[top++] = parent[y];
+        }
+        while (top > 0) {
+            pushDown(stack[--top]);
+        }
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        boolean pIsRoot = isSplayRoot(p);
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != -1) {
+                parent[right[x]] = p;
+            }
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != -1) {
+                parent[left[x]] = p;
+            }
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+        if (!pIsRoot) {
+            if (left[g] == p) {
+                left[g] = x;
+            } else {
+                right[g] = x;
+            }
+        }
+        update(p);
+        update(x);
+    }
+
+    private void pushDown(int x) {
+        if (reversed[x]) {
+            int l = left[x];
+            left[x] = right[x];
+            right[x] = l;
+            if (left[x] != -1) {
+                reversed[left[x]] ^= true;
+            }
+            if (right[x] != -1) {
+                reversed[right[x]] ^= true;
+            }
+            reversed[x] = false;
+        }
+    }
+
+    private void update(int x) {
+        int best = x;
+        int l = left[x];
+        int r = right[x];
+        if (l != -1 && value[maxNode[l]] > value[best]) {
+            best = maxNode[l];
+        }
+        if (r != -1 && value[maxNode[r]] > value[best]) {
+            best = maxNode[r];
+        }
+        maxNode[x] = best;
+    }
+}
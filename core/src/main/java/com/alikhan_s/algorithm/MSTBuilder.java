@@ -0,0 +1,38 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.Graph;
+
+/**
+ * Выбирает стратегию построения MST по плотности графа.
+ * Крускал (сортировка всех ребер) выгоден на разреженных графах,
+ * Прим с индексированной кучей - на плотных, где E заметно больше V log V.
+ */
+public class MSTBuilder {
+    private final double densityFactor;
+
+    public MSTBuilder() {
+        this(1.0);
+    }
+
+    /**
+     * @param densityFactor Множитель порога: граф считается плотным,
+     *                      если E > densityFactor * V * log2(V).
+     */
+    public MSTBuilder(double densityFactor) {
+        this.densityFactor = densityFactor;
+    }
+
+    public MSTStrategy getBestStrategy(Graph graph) {
+        int V = graph.getV();
+        int E = graph.edgeCount();
+        if (V < 2) {
+            return new KruskalMST();
+        }
+
+        double densityThreshold = densityFactor * V * (Math.log(V) / Math.log(2));
+        if (E > densityThreshold) {
+            return new PrimMST();
+        }
+        return new KruskalMST();
+    }
+}
@@ -0,0 +1,35 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.Edge;
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.GraphView;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Интерфейс для стратегий построения MST.
+ * Реализации: {@link KruskalMST}, {@link PrimMST}, {@link LazyPrimMST}, {@link BoruvkaMST}.
+ */
+public interface MSTStrategy {
+    /**
+     * Строит MST для заданного графа.
+     * @param graph Исходный граф.
+     * @return Набор ребер, входящих в MST.
+     */
+    default Set<Edge> buildMST(Graph graph) {
+        GraphView view = graph.view();
+        Set<Edge> mstResult = new LinkedHashSet<>();
+        for (int e : buildMSTIndices(view)) {
+            mstResult.add(view.edge(e));
+        }
+        return mstResult;
+    }
+
+    /**
+     * Строит MST над примитивным представлением графа без создания объектов Edge.
+     * @param view Представление графа.
+     * @return Индексы ребер MST (для несвязного графа - остовного леса).
+     */
+    int[] buildMSTIndices(GraphView view);
+}
@@ -0,0 +1,239 @@
+package com.alikhan_s.algorithm;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Упорядоченное множество элементов 0..n-1 с уникальными ключами типа long
+ * (декартово дерево, treap). Вставка, удаление, выбор k-го по порядку элемента
+ * и выбор по накопленной массе выполняются за ожидаемое O(log n).
+ * <p>
+ * Масса - неотрицательный вес элемента; {@link #selectByMass} позволяет выбирать
+ * элемент с вероятностью, пропорциональной массе. Приоритеты узлов задаются
+ * детерминированно, поэтому форма дерева воспроизводима. Все данные лежат
+ * в примитивных массивах; класс не потокобезопасен.
+ */
+public class OrderStatisticTree {
+    private final int[] left;
+    private final int[] right;
+    private final int[] priority;
+    private final int[] subtreeSize;
+    private final long[] key;
+    private final long[] mass;
+    private final long[] subtreeMass;
+    private final boolean[] present;
+    private int root = -1;
+
+    public OrderStatisticTree(int n) {
+        left = new int[n];
+        right = new int[n];
+        priority = new int[n];
+        subtreeSize = new int[n];
+        key = new long[n];
+        mass = new long[n];
+        subtreeMass = new long[n];
+        present = new boolean[n];
+        Arrays.fill(left, -1);
+        Arrays.fill(right, -1);
+    }
+
+    public int size() {
+        return root == -1 ? 0 : subtreeSize[root];
+    }
+
+    public boolean contains(int item) {
+        return present[item];
+    }
+
+    public long keyOf(int item) {
+        return key[item];
+    }
+
+    /**
+     * Сумма масс всех элементов.
+     */
+    public long totalMass() {
+        return root == -1 ? 0 : subtreeMass[root];
+    }
+
+    /**
+     * Добавляет элемент.
+     *
+     * @throws IllegalArgumentException если элемент уже есть или масса отрицательна.
+     */
+    public void insert(int item, long itemKey, long itemMass) {
+        if (present[item]) {
+            throw new IllegalArgumentException("Элемент уже в дереве: " + item);
+        }
+        if (itemMass < 0) {
+            throw new IllegalArgumentException("Масса не может быть отрицательной: " + itemMass);
+        }
+        present[item] = true;
+        key[item] = itemKey;
+        mass[item] = itemMass;
+        priority[item] = mix(itemKey, item);
+        left[item] = -1;
+        right[item] = -1;
+        update(item);
+
+        int[] parts = split(root, itemKey);
+        root = merge(merge(parts[0], item), parts[1]);
+    }
+
+    /**
+     * Удаляет элемент.
+     *
+     * @return false, если элемента не было.
+     */
+    public boolean remove(int item) {
+        if (!present[item]) {
+            return false;
+        }
+        present[item] = false;
+        root = remove(root, item);
+        return true;
+    }
+
+    /**
+     * Элемент с k-м по возрастанию ключом (k с нуля).
+     *
+     * @throws NoSuchElementException если k вне [0, size()).
+     */
+    public int select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new NoSuchElementException("Нет элемента с номером " + k);
+        }
+        int node = root;
+        while (true) {
+            int leftSize = sizeOf(left[node]);
+            if (k < leftSize) {
+                node = left[node];
+            } else if (k == leftSize) {
+                return node;
+            } else {
+                k -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * Число элементов с ключом меньше, чем у item.
+     *
+     * @throws NoSuchElementException если элемента нет в дереве.
+     */
+    public int rank(int item) {
+        if (!present[item]) {
+            throw new NoSuchElementException("Элемента нет в дереве: " + item);
+        }
+        long target = key[item];
+        int node = root;
+        int result = 0;
+        while (node != item) {
+            if (target < key[node]) {
+                node = left[node];
+            } else {
+                result += sizeOf(left[node]) + 1;
+                node = right[node];
+            }
+        }
+        return result + sizeOf(left[node]);
+    }
+
+    /**
+     * Первый по порядку ключей элемент, на котором накопленная масса превышает target.
+     * Для target, равномерного в [0, totalMass()), элемент выбирается с вероятностью,
+     * пропорциональной его массе.
+     *
+     * @throws NoSuchElementException если target вне [0, totalMass()).
+     */
+    public int selectByMass(long target) {
+        if (target < 0 || target >= totalMass()) {
+            throw new NoSuchElementException("Масса вне диапазона: " + target);
+        }
+        int node = root;
+        while (true) {
+            long leftMass = massOf(left[node]);
+            if (target < leftMass) {
+                node = left[node];
+            } else if (target < leftMass + mass[node]) {
+                return node;
+            } else {
+                target -= leftMass + mass[node];
+                node = right[node];
+            }
+        }
+    }
+
+    // --- Разрезание и слияние ---
+
+    /**
+     * Делит дерево на ключи меньше k и ключи не меньше k.
+     */
+    private int[] split(int node, long k) {
+        if (node == -1) {
+            return new int[]{-1, -1};
+        }
+        if (key[node] < k) {
+            int[] parts = split(right[node], k);
+            right[node] = parts[0];
+            update(node);
+            parts[0] = node;
+            return parts;
+        }
+        int[] parts = split(left[node], k);
+        left[node] = parts[1];
+        update(node);
+        parts[1] = node;
+        return parts;
+    }
+
+    private int merge(int a, int b) {
+        if (a == -1) return b;
+        if (b == -1) return a;
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        update(b);
+        return b;
+    }
+
+    private int remove(int node, int item) {
+        if (node == item) {
+            return merge(left[node], right[node]);
+        }
+        if (key[item] < key[node]) {
+            left[node] = remove(left[node], item);
+        } else {
+            right[node] = remove(right[node], item);
+        }
+        update(node);
+        return node;
+    }
+
+    private void update(int node) {
+        subtreeSize[node] = 1 + sizeOf(left[node]) + sizeOf(right[node]);
+        subtreeMass[node] = mass[node] + massOf(left[node]) + massOf(right[node]);
+    }
+
+    private int sizeOf(int node) {
+        return node == -1 ? 0 : subtreeSize[node];
+    }
+
+    private long massOf(int node) {
+        return node == -1 ? 0 : subtreeMass[node];
+    }
+
+    /**
+     * Приоритет узла: перемешивание ключа и номера (SplitMix64).
+     */
+    private static int mix(long itemKey, int item) {
+        long z = itemKey * 0x9E3779B97F4A7C15L + item;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+}
@@ -0,0 +1,252 @@
+package com.alikhan_s.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Неизменяемое отображение неотрицательных int-ключей в int-значения
+ * (HAMT - префиксное дерево с битовыми масками, по 5 бит ключа на уровень).
+ * <p>
+ * put и remove возвращают новую версию, копируя только путь от корня до листа:
+ * не больше 7 узлов, остальное дерево разделяется с прежней версией. Поэтому каждая
+ * версия стоит O(log n) памяти, а читать любую версию можно из любых потоков без блокировок.
+ */
+public final class PersistentIntMap {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    /** Сдвиг для корня: 31 бит ключа - 6 внутренних уровней и уровень листьев. */
+    private static final int TOP_SHIFT = 30;
+
+    public static final PersistentIntMap EMPTY = new PersistentIntMap(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentIntMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Обработчик пар ключ - значение для {@link #forEach}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) != null;
+    }
+
+    /**
+     * Значение по ключу или missing, если ключа нет.
+     */
+    public int get(int key, int missing) {
+        Leaf leaf = find(key);
+        if (leaf == null) {
+            return missing;
+        }
+        return leaf.values[index(leaf.bitmap, bit(key, 0))];
+    }
+
+    /**
+     * Версия с парой key -> value (значение заменяется, если ключ уже есть).
+     *
+     * @throws IllegalArgumentException если ключ отрицательный.
+     */
+    public PersistentIntMap put(int key, int value) {
+        checkKey(key);
+        Leaf leaf = find(key);
+        if (leaf != null && leaf.values[index(leaf.bitmap, bit(key, 0))] == value) {
+            return this;
+        }
+        return new PersistentIntMap(put(root, TOP_SHIFT, key, value), leaf == null ? size + 1 : size);
+    }
+
+    /**
+     * Версия без ключа key (или та же версия, если ключа нет).
+     */
+    public PersistentIntMap remove(int key) {
+        if (key < 0 || find(key) == null) {
+            return this;
+        }
+        return new PersistentIntMap(remove(root, TOP_SHIFT, key), size - 1);
+    }
+
+    /**
+     * Обходит пары в порядке возрастания ключей.
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (root != null) {
+            forEach(root, TOP_SHIFT, 0, consumer);
+        }
+    }
+
+    /**
+     * Ключи в порядке возрастания.
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int[] count = {0};
+        forEach((key, value) -> result[count[0]++] = key);
+        return result;
+    }
+
+    // --- Узлы ---
+
+    private abstract static class Node {
+        final int bitmap;
+
+        Node(int bitmap) {
+            this.bitmap = bitmap;
+        }
+    }
+
+    private static final class Branch extends Node {
+        final Node[] children;
+
+        Branch(int bitmap, Node[] children) {
+            super(bitmap);
+            this.children = children;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final int[] values;
+
+        Leaf(int bitmap, int[] values) {
+            super(bitmap);
+            this.values = values;
+        }
+    }
+
+    private Leaf find(int key) {
+        if (key < 0) {
+            return null;
+        }
+        Node node = root;
+        for (int shift = TOP_SHIFT; node != null; shift -= BITS) {
+            int bit = bit(key, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            if (shift == 0) {
+                return (Leaf) node;
+            }
+            node = ((Branch) node).children[index(node.bitmap, bit)];
+        }
+        return null;
+    }
+
+    private static Node put(Node node, int shift, int key, int value) {
+        int bit = bit(key, shift);
+        int bitmap = node == null ? 0 : node.bitmap;
+        int i = index(bitmap, bit);
+        boolean present = (bitmap & bit) != 0;
+
+        if (shift == 0) {
+            int[] values = node == null ? new int[0] : ((Leaf) node).values;
+            if (present) {
+                values = values.clone();
+                values[i] = value;
+                return new Leaf(bitmap, values);
+            }
+            return new Leaf(bitmap | bit, insert(values, i, value));
+        }
+
+        Node[] children = node == null ? new Node[0] : ((Branch) node).children;
+        Node child = put(present ? children[i] : null, shift - BITS, key, value);
+        if (present) {
+            children = children.clone();
+            children[i] = child;
+            return new Branch(bitmap, children);
+        }
+        Node[] grown = new Node[children.length + 1];
+        System.arraycopy(children, 0, grown, 0, i);
+        grown[i] = child;
+        System.arraycopy(children, i, grown, i + 1, children.length - i);
+        return new Branch(bitmap | bit, grown);
+    }
+
+    /**
+     * Удаляет существующий ключ; пустые узлы не хранятся (возвращается null).
+     */
+    private static Node remove(Node node, int shift, int key) {
+        int bit = bit(key, shift);
+        int i = index(node.bitmap, bit);
+        if (shift == 0) {
+            if (node.bitmap == bit) {
+                return null;
+            }
+            return new Leaf(node.bitmap & ~bit, delete(((Leaf) node).values, i));
+        }
+
+        Node[] children = ((Branch) node).children;
+        Node child = remove(children[i], shift - BITS, key);
+        if (child != null) {
+            children = children.clone();
+            children[i] = child;
+            return new Branch(node.bitmap, children);
+        }
+        if (node.bitmap == bit) {
+            return null;
+        }
+        Node[] shrunk = new Node[children.length - 1];
+        System.arraycopy(children, 0, shrunk, 0, i);
+        System.arraycopy(children, i + 1, shrunk, i, shrunk.length - i);
+        return new Branch(node.bitmap & ~bit, shrunk);
+    }
+
+    private static void forEach(Node node, int shift, int prefix, EntryConsumer consumer) {
+        int bitmap = node.bitmap;
+        for (int i = 0; bitmap != 0; i++) {
+            int slot = Integer.numberOfTrailingZeros(bitmap);
+            bitmap &= bitmap - 1;
+            int key = prefix | (slot << shift);
+            if (shift == 0) {
+                consumer.accept(key, ((Leaf) node).values[i]);
+            } else {
+                forEach(((Branch) node).children[i], shift - BITS, key, consumer);
+            }
+        }
+    }
+
+    private static int bit(int key, int shift) {
+        return 1 << ((key >>> shift) & MASK);
+    }
+
+    /**
+     * Позиция элемента в сжатом массиве узла: число занятых слотов перед bit.
+     */
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static int[] insert(int[] values, int i, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        System.arraycopy(values, i, result, i + 1, values.length - i);
+        result[i] = value;
+        return result;
+    }
+
+    private static int[] delete(int[] values, int i) {
+        int[] result = new int[values.length - 1];
+        System.arraycopy(values, 0, result, 0, i);
+        System.arraycopy(values, i + 1, result, i, result.length - i);
+        return result;
+    }
+
+    private static void checkKey(int key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Ключ не может быть отрицательным: " + key);
+        }
+    }
+}
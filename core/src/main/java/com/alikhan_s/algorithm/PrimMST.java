@@ -0,0 +1,71 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+
+/**
+ * Реализация алгоритма Прима (энергичный вариант) на индексированной d-арной куче.
+ * Куча хранит по одному элементу на вершину и уменьшает ключ при нахождении
+ * более легкого ребра, поэтому ее размер не превышает V. Подходит для плотных графов.
+ */
+public class PrimMST implements MSTStrategy {
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+
+    public PrimMST() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * @param arity Арность кучи (d >= 2).
+     */
+    public PrimMST(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Арность кучи должна быть не меньше 2");
+        }
+        this.arity = arity;
+    }
+
+    /**
+     * Строит MST (для несвязного графа - остовный лес), запуская Прима из каждой
+     * еще не посещенной вершины.
+     */
+    @Override
+    public int[] buildMSTIndices(GraphView view) {
+        int V = view.getV();
+        boolean[] inTree = new boolean[V];
+        int[] bestEdge = new int[V];
+        Arrays.fill(bestEdge, -1);
+
+        IndexedDaryHeap heap = new IndexedDaryHeap(V, arity);
+        int[] mstResult = new int[Math.max(V - 1, 0)];
+        int accepted = 0;
+
+        for (int start = 0; start < V && accepted < mstResult.length; start++) {
+            if (inTree[start]) {
+                continue;
+            }
+            heap.insertOrDecrease(start, Integer.MIN_VALUE);
+
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                inTree[u] = true;
+                if (bestEdge[u] >= 0) {
+                    mstResult[accepted++] = bestEdge[u];
+                }
+
+                for (int i = view.adjacencyStart(u); i < view.adjacencyEnd(u); i++) {
+                    int e = view.adjacentEdge(i);
+                    int w = view.other(e, u);
+                    if (!inTree[w] && heap.insertOrDecrease(w, view.weight(e))) {
+                        bestEdge[w] = e;
+                    }
+                }
+            }
+        }
+
+        return accepted == mstResult.length ? mstResult : Arrays.copyOf(mstResult, accepted);
+    }
+}
@@ -0,0 +1,82 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+
+/**
+ * Поразрядная сортировка (LSD radix sort) индексов ребер по весу.
+ * Работает только с примитивными массивами и не использует компаратор.
+ * Сортировка устойчива: ребра с равным весом остаются в порядке индексов.
+ */
+public final class RadixSort {
+    private static final int DIGIT_BITS = 11;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int MASK = BUCKETS - 1;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Возвращает индексы всех ребер графа, упорядоченные по возрастанию веса.
+     */
+    public static int[] sortEdgesByWeight(GraphView view) {
+        int m = view.edgeCount();
+        int[] order = new int[m];
+        int[] keys = new int[m];
+        for (int e = 0; e < m; e++) {
+            order[e] = e;
+            // Инвертируем знаковый бит, чтобы отрицательные веса шли первыми.
+            keys[e] = view.weight(e) ^ Integer.MIN_VALUE;
+        }
+        sort(order, keys);
+        return order;
+    }
+
+    /**
+     * Сортирует order по ключам keys (беззнаковое сравнение). Оба массива переставляются.
+     */
+    static void sort(int[] order, int[] keys) {
+        int n = order.length;
+        int[] counts = new int[BUCKETS];
+        int[] fromOrder = order;
+        int[] fromKeys = keys;
+        int[] toOrder = new int[n];
+        int[] toKeys = new int[n];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(fromKeys[i] >>> shift) & MASK]++;
+            }
+            // Если у всех ключей одинаковый разряд, проход ничего не меняет.
+            if (n == 0 || counts[(fromKeys[0] >>> shift) & MASK] == n) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                int count = counts[b];
+                counts[b] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int position = counts[(fromKeys[i] >>> shift) & MASK]++;
+                toOrder[position] = fromOrder[i];
+                toKeys[position] = fromKeys[i];
+            }
+
+            int[] swap = fromOrder;
+            fromOrder = toOrder;
+            toOrder = swap;
+            swap = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swap;
+        }
+
+        if (fromOrder != order) {
+            System.arraycopy(fromOrder, 0, order, 0, n);
+            System.arraycopy(fromKeys, 0, keys, 0, n);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.alikhan_s.algorithm;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+
+/**
+ * Таблица замен для ребер остовного дерева (анализ чувствительности MST).
+ * Для каждого ребра дерева хранит самое легкое ребро вне дерева, которое
+ * восстанавливает связность после удаления этого ребра.
+ * <p>
+ * Строится за один проход: ребра вне дерева перебираются по возрастанию
+ * (вес, индекс), и каждое назначается заменой всем еще не покрытым ребрам
+ * на своем пути в дереве. Уже покрытые ребра пропускаются через union-find
+ * по предкам, поэтому суммарно работа почти линейна после сортировки.
+ */
+public final class ReplacementEdges {
+    private final GraphView view;
+    private final int[] parent;
+    private final int[] parentEdge;
+    private final int[] replacement;
+
+    private ReplacementEdges(GraphView view, int[] parent, int[] parentEdge, int[] replacement) {
+        this.view = view;
+        this.parent = parent;
+        this.parentEdge = parentEdge;
+        this.replacement = replacement;
+    }
+
+    /**
+     * Строит таблицу замен.
+     *
+     * @param view      Представление графа.
+     * @param treeEdges Индексы ребер остовного дерева (или леса) в графе.
+     */
+    public static ReplacementEdges compute(GraphView view, int[] treeEdges) {
+        int V = view.getV();
+        int m = view.edgeCount();
+
+        boolean[] isTree = new boolean[m];
+        int[] offsets = new int[V + 1];
+        for (int e : treeEdges) {
+            isTree[e] = true;
+            offsets[view.src(e) + 1]++;
+            offsets[view.dest(e) + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] adjacency = new int[offsets[V]];
+        int[] fill = Arrays.copyOf(offsets, V);
+        for (int e : treeEdges) {
+            adjacency[fill[view.src(e)]++] = e;
+            adjacency[fill[view.dest(e)]++] = e;
+        }
+
+        // Подвешиваем каждую компоненту леса за первую встреченную вершину.
+        int[] parent = new int[V];
+        int[] parentEdge = new int[V];
+        int[] depth = new int[V];
+        int[] component = new int[V];
+        Arrays.fill(parent, -1);
+        Arrays.fill(parentEdge, -1);
+        Arrays.fill(component, -1);
+        int[] queue = new int[V];
+        for (int root = 0; root < V; root++) {
+            if (component[root] >= 0) {
+                continue;
+            }
+            component[root] = root;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int e = adjacency[i];
+                    int w = view.other(e, u);
+                    if (component[w] < 0) {
+                        component[w] = root;
+                        parent[w] = u;
+                        parentEdge[w] = e;
+                        depth[w] = depth[u] + 1;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+        }
+
+        // jump[v] == v, пока ребро от v к родителю не получило замену.
+        int[] jump = new int[V];
+        for (int v = 0; v < V; v++) {
+            jump[v] = v;
+        }
+        int[] replacement = new int[V];
+        Arrays.fill(replacement, -1);
+
+        int[] order = RadixSort.sortEdgesByWeight(view);
+        for (int e : order) {
+            if (isTree[e]) {
+                continue;
+            }
+            int a = view.src(e);
+            int b = view.dest(e);
+            if (component[a] != component[b]) {
+                continue;
+            }
+            a = findUncovered(jump, a);
+            b = findUncovered(jump, b);
+            while (a != b) {
+                if (depth[a] < depth[b]) {
+                    int swap = a;
+                    a = b;
+                    b = swap;
+                }
+                replacement[a] = e;
+                jump[a] = parent[a];
+                a = findUncovered(jump, a);
+            }
+        }
+
+        return new ReplacementEdges(view, parent, parentEdge, replacement);
+    }
+
+    /**
+     * Представление графа, для которого построена таблица.
+     */
+    public GraphView getView() {
+        return view;
+    }
+
+    /**
+     * Возвращает самое легкое ребро вне дерева, заменяющее ребро дерева treeEdge.
+     *
+     * @return Индекс ребра-замены или -1, если удаление ребра разрывает граф.
+     */
+    public int replacementFor(int treeEdge) {
+        int src = view.src(treeEdge);
+        int dest = view.dest(treeEdge);
+        if (parentEdge[src] == treeEdge) {
+            return replacement[src];
+        }
+        if (parentEdge[dest] == treeEdge) {
+            return replacement[dest];
+        }
+        throw new IllegalArgumentException("Ребро не входит в остовное дерево: " + treeEdge);
+    }
+
+    /**
+     * Ближайший предок-или-сама вершина, ребро которой к родителю еще без замены.
+     */
+    private static int findUncovered(int[] jump, int v) {
+        while (jump[v] != v) {
+            jump[v] = jump[jump[v]];
+            v = jump[v];
+        }
+        return v;
+    }
+}
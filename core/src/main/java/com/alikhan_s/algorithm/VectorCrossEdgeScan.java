@@ -0,0 +1,51 @@
+package com.alikhan_s.algorithm;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Векторная реализация {@link CrossEdgeScan#minCrossEdge}. Класс загружается только
+ * при доступном модуле jdk.incubator.vector.
+ * <p>
+ * Веса блока сравниваются с текущим минимумом одной векторной операцией; метки концов
+ * собираются (gather) только для более легких ребер, поэтому случайные обращения
+ * к массиву меток редки. Ребро соединяет a и b, если метка одного конца - a или b,
+ * а XOR меток равен a ^ b. Минимум блока - маскированная редукция, при равных весах
+ * побеждает первое ребро.
+ */
+final class VectorCrossEdgeScan {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorCrossEdgeScan() {
+    }
+
+    static int minCrossEdge(int[] src, int[] dest, int[] weight, int edgeCount, int[] label, int a, int b) {
+        int upper = SPECIES.loopBound(edgeCount);
+        int pair = a ^ b;
+        int best = -1;
+        int bestWeight = Integer.MAX_VALUE;
+        for (int i = 0; i < upper; i += SPECIES.length()) {
+            IntVector w = IntVector.fromArray(SPECIES, weight, i);
+            VectorMask<Integer> lighter = best < 0 ? SPECIES.maskAll(true) : w.lt(bestWeight);
+            if (!lighter.anyTrue()) {
+                continue;
+            }
+            // Маскированный gather в JDK 17 нестабилен в C2; все индексы вершин корректны,
+            // поэтому собираются метки всего блока.
+            IntVector ls = IntVector.fromArray(SPECIES, label, 0, src, i);
+            IntVector ld = IntVector.fromArray(SPECIES, label, 0, dest, i);
+            VectorMask<Integer> cross = lighter
+                    .and(ls.eq(a).or(ls.eq(b)))
+                    .and(ls.lanewise(VectorOperators.XOR, ld).eq(pair));
+            if (!cross.anyTrue()) {
+                continue;
+            }
+            bestWeight = w.reduceLanes(VectorOperators.MIN, cross);
+            best = i + cross.and(w.eq(bestWeight)).firstTrue();
+        }
+        // Хвост короче вектора: при равном весе ребра в нем проигрывают best по индексу.
+        return CrossEdgeScan.scalarMinCrossEdge(src, dest, weight, upper, edgeCount, label, a, b, best);
+    }
+}
@@ -0,0 +1,41 @@
+package com.alikhan_s.cache;
+
+import com.alikhan_s.algorithm.MSTStrategy;
+import com.alikhan_s.model.GraphView;
+
+/**
+ * Стратегия-обертка: сначала ищет MST в {@link MSTCache}, при промахе строит его
+ * исходной стратегией и сохраняет. Ключ включает имя класса исходной стратегии,
+ * поэтому Крускал и Прим (которые при равных весах могут выбрать разные ребра)
+ * не подменяют результаты друг друга.
+ */
+public class CachingMSTStrategy implements MSTStrategy {
+    private final MSTStrategy delegate;
+    private final MSTCache cache;
+
+    public CachingMSTStrategy(MSTStrategy delegate, MSTCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public int[] buildMSTIndices(GraphView view) {
+        GraphFingerprint fingerprint = GraphFingerprint.of(view);
+        String strategy = delegate.getClass().getName();
+        int[] cached = cache.get(fingerprint, strategy);
+        if (cached != null) {
+            return cached;
+        }
+        int[] built = delegate.buildMSTIndices(view);
+        cache.put(fingerprint, strategy, built);
+        return built;
+    }
+
+    public MSTStrategy getDelegate() {
+        return delegate;
+    }
+
+    public MSTCache getCache() {
+        return cache;
+    }
+}
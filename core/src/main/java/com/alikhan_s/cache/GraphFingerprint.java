@@ -0,0 +1,110 @@
+package com.alikhan_s.cache;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 128-битный отпечаток содержимого графа: V и массивы src/dest/weight в порядке индексов.
+ * Одинаковые по содержимому графы (например, один файл, загруженный дважды) получают
+ * одинаковый отпечаток. Хеш не криптографический - он рассчитан на кэш, а не на защиту
+ * от специально подобранных коллизий.
+ * <p>
+ * Представление графа неизменяемо, поэтому отпечаток запоминается для каждого экземпляра
+ * {@link GraphView}: повторный вызов для неизмененного графа стоит O(1).
+ */
+public final class GraphFingerprint {
+    private static final long C1 = 0x87C37B91114253D5L;
+    private static final long C2 = 0x4CF5AD432745937FL;
+    private static final Map<GraphView, GraphFingerprint> MEMO = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int V;
+    private final int edgeCount;
+    private final long high;
+    private final long low;
+
+    private GraphFingerprint(int V, int edgeCount, long high, long low) {
+        this.V = V;
+        this.edgeCount = edgeCount;
+        this.high = high;
+        this.low = low;
+    }
+
+    public static GraphFingerprint of(GraphView view) {
+        GraphFingerprint known = MEMO.get(view);
+        if (known != null) {
+            return known;
+        }
+        GraphFingerprint computed = compute(view);
+        MEMO.put(view, computed);
+        return computed;
+    }
+
+    private static GraphFingerprint compute(GraphView view) {
+        int E = view.edgeCount();
+        long h1 = 0x9E3779B97F4A7C15L ^ view.getV();
+        long h2 = 0xC2B2AE3D27D4EB4FL ^ E;
+        for (int e = 0; e < E; e++) {
+            long ends = ((long) view.src(e) << 32) | (view.dest(e) & 0xFFFFFFFFL);
+            long weight = view.weight(e) & 0xFFFFFFFFL;
+            h1 = mix(h1, ends);
+            h1 = mix(h1, weight);
+            h2 = mix(h2, weight ^ Long.rotateLeft(ends, 17));
+            h2 = mix(h2, ends * C1);
+        }
+        return new GraphFingerprint(view.getV(), E, finish(h1 ^ h2 ^ E), finish(h2 + h1));
+    }
+
+    /** Шаг перемешивания MurmurHash3 (x64). */
+    private static long mix(long h, long k) {
+        k *= C1;
+        k = Long.rotateLeft(k, 31);
+        k *= C2;
+        h ^= k;
+        return Long.rotateLeft(h, 27) * 5 + 0x52DCE729;
+    }
+
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public int getV() {
+        return V;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Шестнадцатеричная запись (32 символа), пригодная для имени файла.
+     */
+    public String toHex() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GraphFingerprint other = (GraphFingerprint) o;
+        return V == other.V && edgeCount == other.edgeCount && high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return "GraphFingerprint{V=" + V + ", E=" + edgeCount + ", " + toHex() + "}";
+    }
+}
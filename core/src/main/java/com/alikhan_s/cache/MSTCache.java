@@ -0,0 +1,378 @@
+package com.alikhan_s.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Кэш результатов построения MST: ключ - отпечаток графа и имя стратегии,
+ * значение - индексы ребер MST.
+ * <p>
+ * В памяти записи вытесняются по давности использования (LRU), как только превышен
+ * лимит числа записей или байт. Если задан каталог для выгрузки, вытесненные записи
+ * сохраняются на диск и при промахе в памяти читаются оттуда. Объем файлов в каталоге
+ * тоже ограничен: после записи удаляются давно не читанные файлы (по времени изменения,
+ * которое обновляется при чтении). Диск - только ускорение:
+ * ошибки ввода-вывода не прерывают построение, а учитываются в статистике.
+ * <p>
+ * Потокобезопасен. Два потока с одинаковым ключом могут одновременно посчитать MST,
+ * в кэше останется один результат.
+ */
+public class MSTCache {
+    private static final int FILE_MAGIC = 0x4354534D; // "MSTC"
+    /** Оценка накладных расходов записи: ключ, узел LinkedHashMap, заголовок массива. */
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Path spillDirectory;
+    private final long maxSpillBytes;
+    /** Сериализует очистку каталога между потоками. */
+    private final Object spillLock = new Object();
+
+    private final LinkedHashMap<Key, int[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+    private long spillWrites;
+    private long spillErrors;
+
+    /**
+     * Кэш только в памяти.
+     */
+    public MSTCache(int maxEntries, long maxBytes) {
+        this(maxEntries, maxBytes, null, 0);
+    }
+
+    /**
+     * @param spillDirectory Каталог для вытесненных записей или null; создается при необходимости.
+     *                       Каталог должен принадлежать только этому кэшу: лишние файлы .mst в нем удаляются.
+     * @param maxSpillBytes  Лимит объема файлов записей в каталоге (игнорируется без каталога).
+     * @throws IllegalArgumentException если лимиты не положительны.
+     */
+    public MSTCache(int maxEntries, long maxBytes, Path spillDirectory, long maxSpillBytes) {
+        if (maxEntries <= 0 || maxBytes <= 0 || (spillDirectory != null && maxSpillBytes <= 0)) {
+            throw new IllegalArgumentException("Лимиты кэша должны быть положительными");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.spillDirectory = spillDirectory;
+        this.maxSpillBytes = maxSpillBytes;
+    }
+
+    /**
+     * Возвращает сохраненные индексы ребер MST или null при промахе.
+     * Массив - копия, его можно изменять.
+     */
+    public int[] get(GraphFingerprint graph, String strategy) {
+        Key key = new Key(graph, strategy);
+        synchronized (this) {
+            int[] cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached.clone();
+            }
+        }
+        int[] spilled = readSpilled(key);
+        if (spilled == null) {
+            synchronized (this) {
+                misses++;
+            }
+            return null;
+        }
+        Map<Key, int[]> evicted;
+        synchronized (this) {
+            diskHits++;
+            evicted = store(key, spilled.clone());
+        }
+        spillAll(evicted);
+        return spilled;
+    }
+
+    /**
+     * Сохраняет индексы ребер MST (массив копируется).
+     */
+    public void put(GraphFingerprint graph, String strategy, int[] mstIndices) {
+        Key key = new Key(graph, strategy);
+        Map<Key, int[]> evicted;
+        synchronized (this) {
+            evicted = store(key, mstIndices.clone());
+        }
+        spillAll(evicted);
+    }
+
+    /**
+     * Удаляет все записи из памяти; файлы на диске остаются.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(hits, diskHits, misses, evictions, spillWrites, spillErrors, entries.size(), bytes);
+    }
+
+    /**
+     * Кладет запись в память и вытесняет самые старые, пока не выполнены лимиты.
+     * Новая запись не вытесняется, даже если одна превышает лимит байт.
+     *
+     * @return Вытесненные записи (для выгрузки на диск вне блокировки).
+     */
+    private Map<Key, int[]> store(Key key, int[] value) {
+        int[] previous = entries.put(key, value);
+        if (previous != null) {
+            bytes -= sizeOf(previous);
+        }
+        bytes += sizeOf(value);
+
+        Map<Key, int[]> evicted = new LinkedHashMap<>();
+        Iterator<Map.Entry<Key, int[]>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && it.hasNext()) {
+            Map.Entry<Key, int[]> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            it.remove();
+            bytes -= sizeOf(eldest.getValue());
+            evictions++;
+            evicted.put(eldest.getKey(), eldest.getValue());
+        }
+        return evicted;
+    }
+
+    private static long sizeOf(int[] value) {
+        return ENTRY_OVERHEAD + 4L * value.length;
+    }
+
+    // --- Выгрузка на диск ---
+
+    private void spillAll(Map<Key, int[]> evicted) {
+        for (Map.Entry<Key, int[]> entry : evicted.entrySet()) {
+            spill(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void spill(Key key, int[] value) {
+        if (spillDirectory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(spillDirectory);
+            ByteBuffer buffer = ByteBuffer.allocate(8 + 4 * value.length).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(FILE_MAGIC).putInt(value.length);
+            buffer.asIntBuffer().put(value);
+            // Пишем во временный файл и переименовываем, чтобы читатель не увидел половину записи.
+            Path target = fileOf(key);
+            Path temp = Files.createTempFile(spillDirectory, key.graph.toHex(), ".tmp");
+            try {
+                Files.write(temp, buffer.array());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            synchronized (this) {
+                spillWrites++;
+            }
+            trimSpillDirectory();
+        } catch (IOException e) {
+            synchronized (this) {
+                spillErrors++;
+            }
+        }
+    }
+
+    private int[] readSpilled(Key key) {
+        if (spillDirectory == null) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(fileOf(key))).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() < 8 || buffer.getInt() != FILE_MAGIC) {
+                throw new IOException("Поврежденная запись кэша: " + fileOf(key));
+            }
+            int length = buffer.getInt();
+            if (length < 0 || buffer.remaining() != 4L * length) {
+                throw new IOException("Поврежденная запись кэша: " + fileOf(key));
+            }
+            int[] value = new int[length];
+            buffer.asIntBuffer().get(value);
+            touch(fileOf(key));
+            return value;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            synchronized (this) {
+                spillErrors++;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Удаляет самые давно использованные файлы записей, пока их объем превышает лимит.
+     */
+    private void trimSpillDirectory() throws IOException {
+        synchronized (spillLock) {
+            List<Path> files = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(spillDirectory, "*.mst")) {
+                for (Path file : stream) {
+                    files.add(file);
+                }
+            }
+            Map<Path, BasicFileAttributes> attributes = new HashMap<>();
+            long total = 0;
+            for (Path file : files) {
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                    attributes.put(file, attrs);
+                    total += attrs.size();
+                } catch (NoSuchFileException e) {
+                    // Файл удален другим процессом.
+                }
+            }
+            if (total <= maxSpillBytes) {
+                return;
+            }
+            List<Path> oldestFirst = new ArrayList<>(attributes.keySet());
+            oldestFirst.sort(Comparator.comparing(file -> attributes.get(file).lastModifiedTime()));
+            for (Path file : oldestFirst) {
+                if (total <= maxSpillBytes) {
+                    break;
+                }
+                Files.deleteIfExists(file);
+                total -= attributes.get(file).size();
+            }
+        }
+    }
+
+    /**
+     * Время изменения служит отметкой использования для очистки каталога;
+     * если его не удалось обновить, запись все равно прочитана.
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Файл могли удалить или каталог доступен только для чтения.
+        }
+    }
+
+    private Path fileOf(Key key) {
+        return spillDirectory.resolve(key.graph.toHex() + "-" + key.strategy.replaceAll("[^A-Za-z0-9_.-]", "_") + ".mst");
+    }
+
+    private static final class Key {
+        final GraphFingerprint graph;
+        final String strategy;
+
+        Key(GraphFingerprint graph, String strategy) {
+            this.graph = graph;
+            this.strategy = strategy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return graph.equals(key.graph) && strategy.equals(key.strategy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(graph, strategy);
+        }
+    }
+
+    /**
+     * Снимок статистики кэша.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long diskHits;
+        private final long misses;
+        private final long evictions;
+        private final long spillWrites;
+        private final long spillErrors;
+        private final int entries;
+        private final long bytes;
+
+        Stats(long hits, long diskHits, long misses, long evictions, long spillWrites, long spillErrors, int entries, long bytes) {
+            this.hits = hits;
+            this.diskHits = diskHits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.spillWrites = spillWrites;
+            this.spillErrors = spillErrors;
+            this.entries = entries;
+            this.bytes = bytes;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getDiskHits() {
+            return diskHits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getSpillWrites() {
+            return spillWrites;
+        }
+
+        public long getSpillErrors() {
+            return spillErrors;
+        }
+
+        public int getEntries() {
+            return entries;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Доля запросов, обслуженных из памяти или с диска.
+         */
+        public double hitRate() {
+            long total = hits + diskHits + misses;
+            return total == 0 ? 0 : (double) (hits + diskHits) / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("попаданий %d (с диска %d), промахов %d, доля попаданий %.0f%%, "
+                            + "записей %d, %d КБ, вытеснено %d, выгружено %d, ошибок диска %d",
+                    hits, diskHits, misses, hitRate() * 100, entries, bytes / 1024,
+                    evictions, spillWrites, spillErrors);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.alikhan_s.io;
+
+/**
+ * Описание бинарного формата графа (little-endian).
+ * <pre>
+ * Заголовок, 64 байта:
+ *   0  int   магическое число "MSTG"
+ *   4  short версия формата
+ *   6  byte  ширина веса в байтах (1, 2 или 4)
+ *   7  byte  зарезервировано
+ *   8  int   V
+ *   12 int   E
+ *   16 long  CRC32C всех секций после заголовка
+ *   24..63   зарезервировано (нули)
+ * Секции (каждая выровнена по 4 байта):
+ *   src      int[E]
+ *   dest     int[E]
+ *   weight   E * ширина веса (+ выравнивание)
+ *   offsets  int[V + 1]   индекс смежности CSR
+ *   adjacent int[offsets[V]]
+ * </pre>
+ */
+final class BinaryGraphFormat {
+    static final int MAGIC = 0x4754534D;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    static final int OFFSET_WEIGHT_WIDTH = 6;
+    static final int OFFSET_V = 8;
+    static final int OFFSET_E = 12;
+    static final int OFFSET_CHECKSUM = 16;
+
+    private BinaryGraphFormat() {
+    }
+
+    static long align4(long bytes) {
+        return (bytes + 3) & ~3L;
+    }
+}
@@ -0,0 +1,157 @@
+package com.alikhan_s.io;
+
+import com.alikhan_s.model.GraphView;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Записывает граф в бинарный формат {@link BinaryGraphFormat}.
+ * Ширина веса выбирается минимальной, в которую помещаются все веса графа.
+ */
+public final class BinaryGraphWriter {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private BinaryGraphWriter() {
+    }
+
+    /**
+     * Конвертирует JSON-файл графа в бинарный: {@code BinaryGraphWriter input.json output.bin}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Использование: BinaryGraphWriter <input.json> <output.bin>");
+            System.exit(2);
+        }
+        GraphView view = GraphJsonLoader.load(Paths.get(args[0]), null).view();
+        write(view, Paths.get(args[1]));
+        System.out.println("Записано: V=" + view.getV() + ", E=" + view.edgeCount() + " -> " + args[1]);
+    }
+
+    public static void write(GraphView view, Path path) throws IOException {
+        int V = view.getV();
+        int E = view.edgeCount();
+        int weightWidth = weightWidth(view);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(BinaryGraphFormat.HEADER_SIZE);
+            SectionWriter out = new SectionWriter(channel);
+
+            for (int e = 0; e < E; e++) {
+                out.putInt(view.src(e));
+            }
+            for (int e = 0; e < E; e++) {
+                out.putInt(view.dest(e));
+            }
+            for (int e = 0; e < E; e++) {
+                int w = view.weight(e);
+                if (weightWidth == 1) {
+                    out.putByte((byte) w);
+                } else if (weightWidth == 2) {
+                    out.putShort((short) w);
+                } else {
+                    out.putInt(w);
+                }
+            }
+            out.padTo4((long) E * weightWidth);
+
+            int adjacencyLength = 0;
+            for (int v = 0; v <= V; v++) {
+                int offset = v < V ? view.adjacencyStart(v) - view.adjacencyStart(0) : adjacencyLength;
+                out.putInt(offset);
+                if (v < V) {
+                    adjacencyLength += view.adjacencyEnd(v) - view.adjacencyStart(v);
+                }
+            }
+            for (int v = 0; v < V; v++) {
+                for (int i = view.adjacencyStart(v); i < view.adjacencyEnd(v); i++) {
+                    out.putInt(view.adjacentEdge(i));
+                }
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(BinaryGraphFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(BinaryGraphFormat.MAGIC);
+            header.putShort(BinaryGraphFormat.VERSION);
+            header.put((byte) weightWidth);
+            header.put((byte) 0);
+            header.putInt(V);
+            header.putInt(E);
+            header.putLong(out.checksum.getValue());
+            header.clear();
+            channel.write(header, 0);
+        }
+    }
+
+    private static int weightWidth(GraphView view) {
+        int min = 0;
+        int max = 0;
+        for (int e = 0; e < view.edgeCount(); e++) {
+            min = Math.min(min, view.weight(e));
+            max = Math.max(max, view.weight(e));
+        }
+        if (min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE) {
+            return 1;
+        }
+        if (min >= Short.MIN_VALUE && max <= Short.MAX_VALUE) {
+            return 2;
+        }
+        return 4;
+    }
+
+    /**
+     * Буферизованная запись секций с подсчетом контрольной суммы.
+     */
+    private static final class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C checksum = new CRC32C();
+
+        SectionWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putShort(short value) throws IOException {
+            ensure(Short.BYTES);
+            buffer.putShort(value);
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(Byte.BYTES);
+            buffer.put(value);
+        }
+
+        void padTo4(long sectionBytes) throws IOException {
+            for (long i = sectionBytes; i < BinaryGraphFormat.align4(sectionBytes); i++) {
+                putByte((byte) 0);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            checksum.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.alikhan_s.io;
+
+import com.alikhan_s.model.Graph;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Потоковый загрузчик графа из JSON формата { "V": ..., "edges": [ { "src", "dest", "weight" }, ... ] }.
+ * Файл читается по токенам через Gson JsonReader, ребра сразу пишутся в растущие
+ * примитивные массивы, которые затем передаются в {@link Graph} без копирования.
+ * Весь файл в памяти не держится, объекты Edge не создаются.
+ */
+public final class GraphJsonLoader {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int PROGRESS_STEP = 1 << 16;
+
+    /**
+     * Получатель сведений о ходе загрузки.
+     * Чтобы прервать загрузку, слушатель может бросить {@link CancellationException}.
+     */
+    public interface ProgressListener {
+        /**
+         * @param bytesRead  Прочитано байт (или -1, если неизвестно).
+         * @param totalBytes Размер файла (или -1, если неизвестно).
+         * @param edgesRead  Прочитано ребер.
+         */
+        void onProgress(long bytesRead, long totalBytes, int edgesRead);
+    }
+
+    private GraphJsonLoader() {
+    }
+
+    /**
+     * Загружает граф из файла.
+     *
+     * @param listener Может быть null.
+     * @throws JsonSyntaxException если JSON некорректен.
+     */
+    public static Graph load(Path path, ProgressListener listener) throws IOException {
+        long totalBytes = Files.size(path);
+        try (CountingInputStream input = new CountingInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 1 << 16));
+             JsonReader reader = new JsonReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            ProgressListener counted = listener == null ? null
+                    : (bytes, total, edges) -> listener.onProgress(input.count, totalBytes, edges);
+            Graph graph = read(reader, counted);
+            if (listener != null) {
+                listener.onProgress(totalBytes, totalBytes, graph.edgeCount());
+            }
+            return graph;
+        }
+    }
+
+    /**
+     * Читает граф из уже открытого JsonReader.
+     *
+     * @param listener Может быть null; вызывается примерно каждые 65536 ребер.
+     * @throws JsonSyntaxException если JSON некорректен.
+     */
+    public static Graph read(JsonReader reader, ProgressListener listener) throws IOException {
+        int V = -1;
+        int[] src = new int[INITIAL_CAPACITY];
+        int[] dest = new int[INITIAL_CAPACITY];
+        int[] weight = new int[INITIAL_CAPACITY];
+        int count = 0;
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("V")) {
+                    V = reader.nextInt();
+                } else if (name.equals("edges") && reader.peek() != JsonToken.NULL) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (count == src.length) {
+                            int capacity = src.length + (src.length >> 1);
+                            src = Arrays.copyOf(src, capacity);
+                            dest = Arrays.copyOf(dest, capacity);
+                            weight = Arrays.copyOf(weight, capacity);
+                        }
+                        readEdge(reader, src, dest, weight, count);
+                        count++;
+                        if (listener != null && (count & (PROGRESS_STEP - 1)) == 0) {
+                            listener.onProgress(-1, -1, count);
+                        }
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (CancellationException e) {
+            throw e;
+        } catch (MalformedJsonException | EOFException | IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+
+        if (V < 0) {
+            throw new JsonSyntaxException("В графе отсутствует поле V");
+        }
+        try {
+            return Graph.fromArrays(V, src, dest, weight, count);
+        } catch (IllegalArgumentException e) {
+            throw new JsonSyntaxException("Некорректное ребро: " + e.getMessage(), e);
+        }
+    }
+
+    private static void readEdge(JsonReader reader, int[] src, int[] dest, int[] weight, int index) throws IOException {
+        int fields = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "src":
+                    src[index] = reader.nextInt();
+                    fields |= 1;
+                    break;
+                case "dest":
+                    dest[index] = reader.nextInt();
+                    fields |= 2;
+                    break;
+                case "weight":
+                    weight[index] = reader.nextInt();
+                    fields |= 4;
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (fields != 7) {
+            throw new JsonSyntaxException("У ребра #" + index + " не хватает полей src/dest/weight");
+        }
+    }
+
+    /**
+     * Считает прочитанные байты для отчета о прогрессе.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
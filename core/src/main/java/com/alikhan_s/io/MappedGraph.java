@@ -0,0 +1,183 @@
+package com.alikhan_s.io;
+
+import com.alikhan_s.model.GraphView;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Граф, отображенный в память из бинарного файла ({@link BinaryGraphFormat}).
+ * Каждая секция отображается через {@link FileChannel#map} и читается напрямую,
+ * без копирования в кучу, поэтому открытие файла занимает миллисекунды,
+ * а страницы подгружаются операционной системой по мере обращения.
+ * Реализует {@link GraphView}, так что стратегии построения MST работают с ним как с обычным графом.
+ */
+public final class MappedGraph implements GraphView {
+    private final int V;
+    private final int E;
+    private final int weightWidth;
+    private final long checksum;
+
+    private final IntBuffer src;
+    private final IntBuffer dest;
+    private final ByteBuffer weightBytes;
+    private final ShortBuffer weightShorts;
+    private final IntBuffer weightInts;
+    private final IntBuffer offsets;
+    private final IntBuffer adjacent;
+
+    private MappedGraph(int V, int E, int weightWidth, long checksum, IntBuffer src, IntBuffer dest,
+                        ByteBuffer weights, IntBuffer offsets, IntBuffer adjacent) {
+        this.V = V;
+        this.E = E;
+        this.weightWidth = weightWidth;
+        this.checksum = checksum;
+        this.src = src;
+        this.dest = dest;
+        this.weightBytes = weights;
+        this.weightShorts = weightWidth == 2 ? weights.asShortBuffer() : null;
+        this.weightInts = weightWidth == 4 ? weights.asIntBuffer() : null;
+        this.offsets = offsets;
+        this.adjacent = adjacent;
+    }
+
+    /**
+     * Отображает файл в память без проверки контрольной суммы.
+     */
+    public static MappedGraph open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * Отображает файл в память.
+     *
+     * @param verifyChecksum Проверить CRC32C (читает весь файл).
+     * @throws IOException если файл не является графом в бинарном формате или поврежден.
+     */
+    public static MappedGraph open(Path path, boolean verifyChecksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < BinaryGraphFormat.HEADER_SIZE) {
+                throw new IOException("Файл слишком мал для бинарного графа: " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryGraphFormat.HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != BinaryGraphFormat.MAGIC) {
+                throw new IOException("Неверная сигнатура бинарного графа: " + path);
+            }
+            short version = header.getShort(4);
+            if (version != BinaryGraphFormat.VERSION) {
+                throw new IOException("Неподдерживаемая версия формата: " + version);
+            }
+            int weightWidth = header.get(BinaryGraphFormat.OFFSET_WEIGHT_WIDTH);
+            if (weightWidth != 1 && weightWidth != 2 && weightWidth != 4) {
+                throw new IOException("Неверная ширина веса: " + weightWidth);
+            }
+            int V = header.getInt(BinaryGraphFormat.OFFSET_V);
+            int E = header.getInt(BinaryGraphFormat.OFFSET_E);
+            long checksum = header.getLong(BinaryGraphFormat.OFFSET_CHECKSUM);
+            if (V < 0 || E < 0) {
+                throw new IOException("Некорректный заголовок: V=" + V + ", E=" + E);
+            }
+
+            long position = BinaryGraphFormat.HEADER_SIZE;
+            long intSection = (long) E * Integer.BYTES;
+            long weightSection = BinaryGraphFormat.align4((long) E * weightWidth);
+            long offsetsSection = (long) (V + 1) * Integer.BYTES;
+            long dataStart = position;
+
+            IntBuffer src = map(channel, position, intSection).asIntBuffer();
+            position += intSection;
+            IntBuffer dest = map(channel, position, intSection).asIntBuffer();
+            position += intSection;
+            ByteBuffer weights = map(channel, position, weightSection);
+            position += weightSection;
+            IntBuffer offsets = map(channel, position, offsetsSection).asIntBuffer();
+            position += offsetsSection;
+            long adjacencySection = (long) offsets.get(V) * Integer.BYTES;
+            if (position + adjacencySection != fileSize) {
+                throw new IOException("Размер файла не соответствует заголовку: " + path);
+            }
+            IntBuffer adjacent = map(channel, position, adjacencySection).asIntBuffer();
+
+            if (verifyChecksum) {
+                CRC32C crc = new CRC32C();
+                for (long offset = dataStart; offset < fileSize; offset += Integer.MAX_VALUE) {
+                    crc.update(map(channel, offset, Math.min(Integer.MAX_VALUE, fileSize - offset)));
+                }
+                if (crc.getValue() != checksum) {
+                    throw new IOException("Контрольная сумма не совпадает: " + path);
+                }
+            }
+
+            return new MappedGraph(V, E, weightWidth, checksum, src, dest, weights, offsets, adjacent);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public int weightWidth() {
+        return weightWidth;
+    }
+
+    public long checksum() {
+        return checksum;
+    }
+
+    @Override
+    public int getV() {
+        return V;
+    }
+
+    @Override
+    public int edgeCount() {
+        return E;
+    }
+
+    @Override
+    public int src(int e) {
+        return src.get(e);
+    }
+
+    @Override
+    public int dest(int e) {
+        return dest.get(e);
+    }
+
+    @Override
+    public int weight(int e) {
+        if (weightWidth == 4) {
+            return weightInts.get(e);
+        }
+        if (weightWidth == 2) {
+            return weightShorts.get(e);
+        }
+        return weightBytes.get(e);
+    }
+
+    @Override
+    public int adjacencyStart(int v) {
+        return offsets.get(v);
+    }
+
+    @Override
+    public int adjacencyEnd(int v) {
+        return offsets.get(v + 1);
+    }
+
+    @Override
+    public int adjacentEdge(int i) {
+        return adjacent.get(i);
+    }
+}
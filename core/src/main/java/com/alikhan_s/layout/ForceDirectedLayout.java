@@ -0,0 +1,330 @@
+package com.alikhan_s.layout;
+
+import com.alikhan_s.model.GraphView;
+
+import java.util.Arrays;
+
+/**
+ * Силовая укладка графа (Фрюхтерман - Рейнгольд) с приближением Барнса - Хата:
+ * отталкивание считается по квадродереву за O(n log n) вместо O(n^2),
+ * притяжение - вдоль ребер графа, причем ребра MST тянут сильнее остальных.
+ * <p>
+ * Класс не потокобезопасен: итерации выполняет один поток, другие получают копии
+ * координат через {@link #copyPositions}. Вершины без ребер не укладываются (NaN).
+ */
+public class ForceDirectedLayout {
+    /** Желаемое расстояние между соседними вершинами. */
+    public static final double EDGE_LENGTH = 40;
+
+    private static final double THETA = 0.8;
+    private static final double NON_TREE_STRENGTH = 0.1;
+    private static final double GRAVITY = 0.02;
+    private static final double COOLING = 0.95;
+    private static final double MIN_TEMPERATURE = EDGE_LENGTH * 0.005;
+    private static final int MAX_DEPTH = 40;
+
+    private final GraphView view;
+    private final boolean[] treeEdges;
+    private final int[] active;
+    private final double[] x;
+    private final double[] y;
+    private final double[] dispX;
+    private final double[] dispY;
+    private double temperature;
+
+    // Квадродерево на массивах: 4 потомка узла n лежат подряд начиная с child[n].
+    private int nodeCount;
+    private int[] child = new int[0];
+    private int[] body = new int[0];
+    private double[] mass = new double[0];
+    private double[] sumX = new double[0];
+    private double[] sumY = new double[0];
+    private double[] centerX = new double[0];
+    private double[] centerY = new double[0];
+    private double[] half = new double[0];
+    private int[] stack = new int[0];
+
+    /**
+     * Начинает укладку с нуля: вершины раскладываются по спирали Ферма.
+     *
+     * @param treeEdges Принадлежность ребра MST по индексу ребра в view; может быть null.
+     */
+    public ForceDirectedLayout(GraphView view, boolean[] treeEdges) {
+        this(view, treeEdges, null, null);
+    }
+
+    /**
+     * Продолжает укладку с заданных координат (например, после изменения MST).
+     * Вершины с NaN в previousX получают позиции рядом с уже уложенным соседом.
+     */
+    public ForceDirectedLayout(GraphView view, boolean[] treeEdges, double[] previousX, double[] previousY) {
+        int V = view.getV();
+        this.view = view;
+        this.treeEdges = treeEdges;
+        this.x = new double[V];
+        this.y = new double[V];
+        this.dispX = new double[V];
+        this.dispY = new double[V];
+        Arrays.fill(x, Double.NaN);
+        Arrays.fill(y, Double.NaN);
+
+        int count = 0;
+        int[] vertices = new int[V];
+        for (int v = 0; v < V; v++) {
+            if (view.adjacencyStart(v) != view.adjacencyEnd(v)) {
+                vertices[count++] = v;
+            }
+        }
+        this.active = Arrays.copyOf(vertices, count);
+
+        boolean warm = previousX != null && previousX.length == V && previousY != null && previousY.length == V;
+        if (warm) {
+            for (int v : active) {
+                x[v] = previousX[v];
+                y[v] = previousY[v];
+            }
+            placeMissing();
+            temperature = EDGE_LENGTH * 2;
+        } else {
+            // Спираль Ферма: равномерная плотность без случайности.
+            for (int i = 0; i < count; i++) {
+                double r = EDGE_LENGTH * 0.5 * Math.sqrt(i);
+                double angle = i * 2.399963229728653;
+                x[active[i]] = r * Math.cos(angle);
+                y[active[i]] = r * Math.sin(angle);
+            }
+            temperature = Math.max(EDGE_LENGTH * 2, EDGE_LENGTH * Math.sqrt(count) / 10);
+        }
+    }
+
+    /**
+     * Одна итерация укладки.
+     *
+     * @return false, если укладка уже сошлась (температура упала до минимума).
+     */
+    public boolean step() {
+        if (isConverged() || active.length == 0) {
+            return false;
+        }
+        for (int v : active) {
+            dispX[v] = 0;
+            dispY[v] = 0;
+        }
+        buildTree();
+        for (int v : active) {
+            repulse(v);
+        }
+        attract();
+
+        double centerOfMassX = sumX[0] / mass[0];
+        double centerOfMassY = sumY[0] / mass[0];
+        for (int v : active) {
+            dispX[v] -= GRAVITY * (x[v] - centerOfMassX);
+            dispY[v] -= GRAVITY * (y[v] - centerOfMassY);
+            double length = Math.hypot(dispX[v], dispY[v]);
+            if (length > 0) {
+                double limited = Math.min(length, temperature);
+                x[v] += dispX[v] / length * limited;
+                y[v] += dispY[v] / length * limited;
+            }
+        }
+        temperature *= COOLING;
+        return true;
+    }
+
+    public boolean isConverged() {
+        return temperature < MIN_TEMPERATURE;
+    }
+
+    public int getV() {
+        return x.length;
+    }
+
+    /**
+     * Копирует текущие координаты в массивы длины V.
+     */
+    public void copyPositions(double[] targetX, double[] targetY) {
+        System.arraycopy(x, 0, targetX, 0, x.length);
+        System.arraycopy(y, 0, targetY, 0, y.length);
+    }
+
+    /**
+     * Новые вершины при теплом старте ставятся рядом с уложенным соседом,
+     * а если такого нет - в центр.
+     */
+    private void placeMissing() {
+        for (int v : active) {
+            if (!Double.isNaN(x[v])) {
+                continue;
+            }
+            double px = 0;
+            double py = 0;
+            for (int i = view.adjacencyStart(v); i < view.adjacencyEnd(v); i++) {
+                int u = view.other(view.adjacentEdge(i), v);
+                if (!Double.isNaN(x[u])) {
+                    px = x[u];
+                    py = y[u];
+                    break;
+                }
+            }
+            // Небольшой детерминированный сдвиг, чтобы не совпасть с соседом.
+            x[v] = px + EDGE_LENGTH * 0.1 * ((v * 31 % 7) - 3);
+            y[v] = py + EDGE_LENGTH * 0.1 * ((v * 17 % 7) - 3);
+        }
+    }
+
+    // --- Квадродерево ---
+
+    private void buildTree() {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int v : active) {
+            minX = Math.min(minX, x[v]);
+            maxX = Math.max(maxX, x[v]);
+            minY = Math.min(minY, y[v]);
+            maxY = Math.max(maxY, y[v]);
+        }
+        nodeCount = 0;
+        int root = newNode((minX + maxX) / 2, (minY + maxY) / 2,
+                Math.max(Math.max(maxX - minX, maxY - minY) / 2, 1e-9) * 1.0001);
+        for (int v : active) {
+            insert(root, v);
+        }
+    }
+
+    private void insert(int node, int v) {
+        int depth = 0;
+        while (true) {
+            mass[node] += 1;
+            sumX[node] += x[v];
+            sumY[node] += y[v];
+            if (child[node] == -1) {
+                if (mass[node] == 1) {
+                    body[node] = v;
+                    return;
+                }
+                if (depth >= MAX_DEPTH) {
+                    // Совпадающие точки: оставляем их агрегатом в листе.
+                    return;
+                }
+                int old = body[node];
+                body[node] = -1;
+                subdivide(node);
+                int oldChild = quadrant(node, old);
+                mass[oldChild] = 1;
+                sumX[oldChild] = x[old];
+                sumY[oldChild] = y[old];
+                body[oldChild] = old;
+            }
+            node = quadrant(node, v);
+            depth++;
+        }
+    }
+
+    private void subdivide(int node) {
+        double h = half[node] / 2;
+        double cx = centerX[node];
+        double cy = centerY[node];
+        int first = newNode(cx - h, cy - h, h);
+        newNode(cx + h, cy - h, h);
+        newNode(cx - h, cy + h, h);
+        newNode(cx + h, cy + h, h);
+        child[node] = first;
+    }
+
+    private int quadrant(int node, int v) {
+        int index = (x[v] >= centerX[node] ? 1 : 0) + (y[v] >= centerY[node] ? 2 : 0);
+        return child[node] + index;
+    }
+
+    private int newNode(double cx, double cy, double h) {
+        if (nodeCount == child.length) {
+            int capacity = Math.max(64, child.length * 2);
+            child = Arrays.copyOf(child, capacity);
+            body = Arrays.copyOf(body, capacity);
+            mass = Arrays.copyOf(mass, capacity);
+            sumX = Arrays.copyOf(sumX, capacity);
+            sumY = Arrays.copyOf(sumY, capacity);
+            centerX = Arrays.copyOf(centerX, capacity);
+            centerY = Arrays.copyOf(centerY, capacity);
+            half = Arrays.copyOf(half, capacity);
+        }
+        int node = nodeCount++;
+        child[node] = -1;
+        body[node] = -1;
+        mass[node] = 0;
+        sumX[node] = 0;
+        sumY[node] = 0;
+        centerX[node] = cx;
+        centerY[node] = cy;
+        half[node] = h;
+        return node;
+    }
+
+    // --- Силы ---
+
+    /**
+     * Отталкивание k^2 / d от всех вершин; далекие узлы дерева (size / d < THETA)
+     * считаются одной точкой в их центре масс.
+     */
+    private void repulse(int v) {
+        double k2 = EDGE_LENGTH * EDGE_LENGTH;
+        if (stack.length < 4 * MAX_DEPTH + 4) {
+            stack = new int[4 * MAX_DEPTH + 4];
+        }
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (mass[node] == 0 || body[node] == v && mass[node] == 1) {
+                continue;
+            }
+            double dx = x[v] - sumX[node] / mass[node];
+            double dy = y[v] - sumY[node] / mass[node];
+            double d2 = dx * dx + dy * dy;
+            boolean leaf = child[node] == -1;
+            if (leaf || 4 * half[node] * half[node] < THETA * THETA * d2) {
+                if (d2 < 1e-12) {
+                    // Совпадающие точки расталкиваем в детерминированном направлении.
+                    dx = (v & 1) == 0 ? 0.01 : -0.01;
+                    dy = (v & 2) == 0 ? 0.01 : -0.01;
+                    d2 = dx * dx + dy * dy;
+                }
+                double factor = k2 * mass[node] / d2;
+                dispX[v] += dx * factor;
+                dispY[v] += dy * factor;
+            } else {
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                for (int c = 0; c < 4; c++) {
+                    stack[top++] = child[node] + c;
+                }
+            }
+        }
+    }
+
+    /**
+     * Притяжение d^2 / k вдоль ребер; ребра вне MST в NON_TREE_STRENGTH раз слабее.
+     */
+    private void attract() {
+        for (int e = 0; e < view.edgeCount(); e++) {
+            int a = view.src(e);
+            int b = view.dest(e);
+            if (a == b) {
+                continue;
+            }
+            double dx = x[a] - x[b];
+            double dy = y[a] - y[b];
+            double d = Math.sqrt(dx * dx + dy * dy);
+            double strength = treeEdges != null && e < treeEdges.length && treeEdges[e] ? 1 : NON_TREE_STRENGTH;
+            double factor = strength * d / EDGE_LENGTH;
+            dispX[a] -= dx * factor;
+            dispY[a] -= dy * factor;
+            dispX[b] += dx * factor;
+            dispY[b] += dy * factor;
+        }
+    }
+}
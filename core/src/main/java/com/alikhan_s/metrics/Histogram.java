@@ -0,0 +1,86 @@
+package com.alikhan_s.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гистограмма неотрицательных значений с корзинами по степеням двойки:
+ * корзина b содержит значения из [2^(b-1), 2^b), корзина 0 - только ноль.
+ * Запись - один атомарный инкремент; перцентили приближенные (верхняя граница корзины).
+ */
+public final class Histogram {
+    private static final int BUCKETS = 65;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param value Неотрицательное значение; отрицательные считаются нулем.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(v));
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Верхняя граница корзины, в которую попадает перцентиль p из (0, 1].
+     */
+    public long percentile(double p) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += buckets.get(b);
+            if (seen >= rank) {
+                return b == 0 ? 0 : Math.min(max(), b == 64 ? Long.MAX_VALUE : (1L << b) - 1);
+            }
+        }
+        return max();
+    }
+
+    void reset() {
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets.set(b, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    @Override
+    public String toString() {
+        long total = count();
+        return String.format("%s count=%d mean=%.2f p50<=%d p99<=%d max=%d",
+                name, total, total == 0 ? 0.0 : (double) sum() / total, percentile(0.5), percentile(0.99), max());
+    }
+}
@@ -0,0 +1,33 @@
+package com.alikhan_s.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Событие JFR: построение MST алгоритмом Крускала.
+ */
+@Name("com.alikhan_s.KruskalBuild")
+@Label("Kruskal MST Build")
+@Category("MST")
+@Description("Построение MST алгоритмом Крускала")
+public class KruskalBuildEvent extends jdk.jfr.Event {
+    @Label("Vertices")
+    public int vertices;
+
+    @Label("Edges")
+    public int edges;
+
+    @Label("Sort Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sortNanos;
+
+    @Label("Edges Scanned")
+    @Description("Ребер просмотрено до того, как было принято V - 1 ребро")
+    public int edgesScanned;
+
+    @Label("Unions")
+    public int unions;
+}
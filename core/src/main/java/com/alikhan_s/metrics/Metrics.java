@@ -0,0 +1,64 @@
+package com.alikhan_s.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Реестр счетчиков и гистограмм для горячих участков кода.
+ * <p>
+ * Сбор включается системным свойством {@code -Dmst.metrics=true} при запуске JVM.
+ * Флаг {@link #ENABLED} - константа, поэтому при выключенном сборе JIT удаляет
+ * проверки {@code if (Metrics.ENABLED)} вместе с их телом. Сами метрики регистрируются
+ * всегда (обычно в статических полях), это разовая и дешевая операция.
+ */
+public final class Metrics {
+    public static final boolean ENABLED = Boolean.getBoolean("mst.metrics");
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * Возвращает счетчик с этим именем, создавая его при первом обращении.
+     */
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Возвращает гистограмму с этим именем, создавая ее при первом обращении.
+     */
+    public static Histogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * Обнуляет все метрики (например, между прогонами).
+     */
+    public static void reset() {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * Текстовый снимок всех метрик, по одной строке на метрику, в алфавитном порядке.
+     * Пустые метрики пропускаются.
+     */
+    public static String snapshot() {
+        StringBuilder sb = new StringBuilder();
+        for (Counter counter : new TreeMap<>(COUNTERS).values()) {
+            if (counter.get() != 0) {
+                sb.append(counter).append('\n');
+            }
+        }
+        for (Histogram histogram : new TreeMap<>(HISTOGRAMS).values()) {
+            if (histogram.count() != 0) {
+                sb.append(histogram).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.alikhan_s.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR: поиск самого легкого ребра между двумя компонентами MST.
+ */
+@Name("com.alikhan_s.MSTReconnect")
+@Label("MST Reconnect Search")
+@Category("MST")
+@Description("MST.findMinEdgeBetween")
+public class ReconnectEvent extends jdk.jfr.Event {
+    @Label("Fast Path")
+    @Description("Ответ взят из таблицы замен")
+    public boolean fastPath;
+
+    @Label("Edges Scanned")
+    public int edgesScanned;
+
+    @Label("Candidates Checked")
+    @Description("Ребра, прошедшие фильтр по весу и проверенные на принадлежность компонентам")
+    public int candidatesChecked;
+}
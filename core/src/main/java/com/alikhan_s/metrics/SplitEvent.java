@@ -0,0 +1,22 @@
+package com.alikhan_s.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR: разделение MST на компоненты после удаления ребра.
+ */
+@Name("com.alikhan_s.MSTSplit")
+@Label("MST Split")
+@Category("MST")
+@Description("MST.splitIntoComponents")
+public class SplitEvent extends jdk.jfr.Event {
+    @Label("Fast Path")
+    @Description("Компоненты взяты по концам удаленного ребра, без обхода вершин")
+    public boolean fastPath;
+
+    @Label("Vertices Visited")
+    public int verticesVisited;
+}
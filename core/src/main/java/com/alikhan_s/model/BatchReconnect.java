@@ -0,0 +1,43 @@
+package com.alikhan_s.model;
+
+import java.util.List;
+
+/**
+ * Результат пакетного восстановления MST после удаления нескольких ребер
+ * ({@link MST#reconnectComponents}). Исключение удаленных ребер действует только на этот вызов:
+ * компоненты, которые не удалось соединить, остаются разъединенными, но следующие шаги могут
+ * соединить их в том числе ранее исключенными ребрами.
+ */
+public final class BatchReconnect {
+    private final List<Edge> addedEdges;
+    private final List<MST> components;
+
+    BatchReconnect(List<Edge> addedEdges, List<MST> components) {
+        this.addedEdges = List.copyOf(addedEdges);
+        this.components = List.copyOf(components);
+    }
+
+    /**
+     * Ребра, добавленные в лес, в порядке раундов Борувки.
+     */
+    public List<Edge> getAddedEdges() {
+        return addedEdges;
+    }
+
+    /**
+     * Компоненты, содержащие концы удаленных ребер, после восстановления.
+     * Если их больше одной, часть компонент соединить не удалось (в графе нет ребер между ними).
+     */
+    public List<MST> getComponents() {
+        return components;
+    }
+
+    public boolean isConnected() {
+        return components.size() <= 1;
+    }
+
+    @Override
+    public String toString() {
+        return "добавлено ребер: " + addedEdges.size() + ", компонент: " + components.size();
+    }
+}
@@ -0,0 +1,123 @@
+package com.alikhan_s.model;
+
+import com.alikhan_s.algorithm.CrossEdgeScan;
+
+/**
+ * Компактное неизменяемое представление графа (structure of arrays).
+ * Ребра хранятся в трех массивах src/dest/weight, индекс смежности CSR
+ * строится один раз при создании.
+ */
+public final class CompactGraph implements GraphView {
+    private final int V;
+    private final int edgeCount;
+    private final int[] src;
+    private final int[] dest;
+    private final int[] weight;
+
+    private final int[] adjacencyOffsets;
+    private final int[] adjacencyEdges;
+
+    /**
+     * Представление поверх готовых массивов ребер как есть: без нормализации концов
+     * и без удаления повторов, поэтому индекс ребра совпадает с его позицией в массивах.
+     * Массивы не копируются.
+     *
+     * @throws IllegalArgumentException если индекс вершины вне диапазона.
+     */
+    public static CompactGraph of(int V, int[] src, int[] dest, int[] weight, int edgeCount) {
+        if (src.length < edgeCount || dest.length < edgeCount || weight.length < edgeCount) {
+            throw new IllegalArgumentException("Массивы короче количества ребер");
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            if (src[e] < 0 || src[e] >= V || dest[e] < 0 || dest[e] >= V) {
+                throw new IllegalArgumentException("Индекс вершины вне диапазона");
+            }
+        }
+        return new CompactGraph(V, src, dest, weight, edgeCount);
+    }
+
+    /**
+     * Массивы не копируются: вызывающий обязуется не изменять первые edgeCount элементов.
+     */
+    CompactGraph(int V, int[] src, int[] dest, int[] weight, int edgeCount) {
+        this.V = V;
+        this.edgeCount = edgeCount;
+        this.src = src;
+        this.dest = dest;
+        this.weight = weight;
+
+        int[] offsets = new int[V + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[src[e] + 1]++;
+            if (dest[e] != src[e]) {
+                offsets[dest[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] edges = new int[offsets[V]];
+        int[] fill = new int[V];
+        System.arraycopy(offsets, 0, fill, 0, V);
+        for (int e = 0; e < edgeCount; e++) {
+            edges[fill[src[e]]++] = e;
+            if (dest[e] != src[e]) {
+                edges[fill[dest[e]]++] = e;
+            }
+        }
+
+        this.adjacencyOffsets = offsets;
+        this.adjacencyEdges = edges;
+    }
+
+    @Override
+    public int getV() {
+        return V;
+    }
+
+    @Override
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public int src(int e) {
+        return src[e];
+    }
+
+    @Override
+    public int dest(int e) {
+        return dest[e];
+    }
+
+    @Override
+    public int weight(int e) {
+        return weight[e];
+    }
+
+    @Override
+    public int adjacencyStart(int v) {
+        return adjacencyOffsets[v];
+    }
+
+    @Override
+    public int adjacencyEnd(int v) {
+        return adjacencyOffsets[v + 1];
+    }
+
+    @Override
+    public int adjacentEdge(int i) {
+        return adjacencyEdges[i];
+    }
+
+    /**
+     * Самое легкое ребро между компонентами с метками a и b (см. {@link CrossEdgeScan}).
+     *
+     * @param label Метка компоненты для каждой вершины.
+     * @return Индекс ребра или -1.
+     */
+    public int minCrossEdge(int[] label, int a, int b) {
+        return CrossEdgeScan.minCrossEdge(src, dest, weight, edgeCount, label, a, b);
+    }
+}
@@ -0,0 +1,280 @@
+package com.alikhan_s.model;
+
+import com.google.gson.annotations.JsonAdapter;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Класс, представляющий граф.
+ * Хранит количество вершин и ребра в виде примитивных массивов src/dest/weight.
+ * Для обхода без аллокаций используйте {@link #view()}.
+ */
+@JsonAdapter(GraphJsonAdapter.class)
+public class Graph {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int V;
+    private int[] src;
+    private int[] dest;
+    private int[] weight;
+    private int edgeCount;
+
+    /**
+     * Хеш-таблица с открытой адресацией: индекс ребра + 1, 0 - пустая ячейка.
+     * Нужна, чтобы, как и раньше с HashSet, не хранить одинаковые ребра дважды.
+     */
+    private int[] edgeTable;
+
+    private CompactGraph view;
+    /**
+     * Массив weight разделен с выданным представлением: перед изменением веса
+     * его нужно скопировать, иначе у уже выданных представлений поменяются веса.
+     */
+    private boolean weightShared;
+
+    /**
+     * @param V Количество вершин в графе.
+     */
+    public Graph(int V) {
+        this.V = V;
+        this.src = new int[INITIAL_CAPACITY];
+        this.dest = new int[INITIAL_CAPACITY];
+        this.weight = new int[INITIAL_CAPACITY];
+        this.edgeTable = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /**
+     * Создает граф поверх готовых массивов ребер (например, от потокового загрузчика).
+     * Массивы одинаковой длины не копируются: концы ребер нормализуются, а повторы
+     * удаляются на месте, поэтому после вызова массивы принадлежат графу.
+     *
+     * @throws IllegalArgumentException если индекс вершины вне диапазона.
+     */
+    public static Graph fromArrays(int V, int[] src, int[] dest, int[] weight, int edgeCount) {
+        if (src.length < edgeCount || dest.length < edgeCount || weight.length < edgeCount) {
+            throw new IllegalArgumentException("Массивы короче количества ребер");
+        }
+        if (src.length != dest.length || src.length != weight.length) {
+            src = Arrays.copyOf(src, edgeCount);
+            dest = Arrays.copyOf(dest, edgeCount);
+            weight = Arrays.copyOf(weight, edgeCount);
+        }
+        Graph graph = new Graph(V, src, dest, weight);
+        for (int e = 0; e < edgeCount; e++) {
+            int a = src[e];
+            int b = dest[e];
+            if (a >= V || b >= V || a < 0 || b < 0) {
+                throw new IllegalArgumentException("Индекс вершины вне диапазона");
+            }
+            int w = weight[e];
+            int normalizedSrc = Math.min(a, b);
+            int normalizedDest = Math.max(a, b);
+            int slot = graph.findSlot(normalizedSrc, normalizedDest, w);
+            if (graph.edgeTable[slot] != 0) {
+                continue;
+            }
+            int index = graph.edgeCount++;
+            src[index] = normalizedSrc;
+            dest[index] = normalizedDest;
+            weight[index] = w;
+            graph.edgeTable[slot] = index + 1;
+            if (graph.edgeCount * 2 > graph.edgeTable.length) {
+                graph.rehash();
+            }
+        }
+        return graph;
+    }
+
+    private Graph(int V, int[] src, int[] dest, int[] weight) {
+        this.V = V;
+        this.src = src.length == 0 ? new int[INITIAL_CAPACITY] : src;
+        this.dest = dest.length == 0 ? new int[INITIAL_CAPACITY] : dest;
+        this.weight = weight.length == 0 ? new int[INITIAL_CAPACITY] : weight;
+        this.edgeTable = new int[Integer.highestOneBit(Math.max(this.src.length, INITIAL_CAPACITY)) * 2];
+    }
+
+    /**
+     * Добавляет ребро в граф.
+     */
+    public void addEdge(int src, int dest, int weight) {
+        if (src >= V || dest >= V || src < 0 || dest < 0) {
+            throw new IllegalArgumentException("Индекс вершины вне диапазона");
+        }
+        int a = Math.min(src, dest);
+        int b = Math.max(src, dest);
+
+        int slot = findSlot(a, b, weight);
+        if (edgeTable[slot] != 0) {
+            return;
+        }
+
+        if (edgeCount == this.src.length) {
+            int capacity = this.src.length * 2;
+            this.src = Arrays.copyOf(this.src, capacity);
+            this.dest = Arrays.copyOf(this.dest, capacity);
+            this.weight = Arrays.copyOf(this.weight, capacity);
+        }
+        this.src[edgeCount] = a;
+        this.dest[edgeCount] = b;
+        this.weight[edgeCount] = weight;
+        edgeTable[slot] = edgeCount + 1;
+        edgeCount++;
+        view = null;
+
+        if (edgeCount * 2 > edgeTable.length) {
+            rehash();
+        }
+    }
+
+    /**
+     * Меняет вес существующего ребра; индекс ребра в {@link #view()} сохраняется.
+     * Ранее полученные представления не меняются (веса копируются), но считаются устаревшими.
+     *
+     * @return Ребро с новым весом.
+     * @throws IllegalArgumentException если ребра нет или ребро с новым весом уже есть.
+     */
+    public Edge setWeight(Edge edge, int newWeight) {
+        int slot = findSlot(edge.src, edge.dest, edge.weight);
+        if (edgeTable[slot] == 0) {
+            throw new IllegalArgumentException("Ребро отсутствует в графе: " + edge);
+        }
+        if (newWeight == edge.weight) {
+            return edge;
+        }
+        int newSlot = findSlot(edge.src, edge.dest, newWeight);
+        if (edgeTable[newSlot] != 0) {
+            throw new IllegalArgumentException("Ребро с весом " + newWeight + " уже есть в графе: " + edge);
+        }
+
+        int e = edgeTable[slot] - 1;
+        removeSlot(slot);
+        if (weightShared) {
+            weight = weight.clone();
+            weightShared = false;
+        }
+        weight[e] = newWeight;
+        edgeTable[findSlot(edge.src, edge.dest, newWeight)] = e + 1;
+        view = null;
+        return new Edge(edge.src, edge.dest, newWeight);
+    }
+
+    /**
+     * Возвращает индекс ребра в {@link #view()} или -1, если такого ребра нет.
+     */
+    public int indexOf(Edge edge) {
+        return edgeTable[findSlot(edge.src, edge.dest, edge.weight)] - 1;
+    }
+
+    /**
+     * Возвращает копию ребер в виде набора объектов Edge.
+     * Оставлен для совместимости; в горячих циклах используйте {@link #view()}.
+     */
+    public Set<Edge> getEdges() {
+        Set<Edge> edges = new HashSet<>();
+        for (int e = 0; e < edgeCount; e++) {
+            edges.add(new Edge(src[e], dest[e], weight[e]));
+        }
+        return edges;
+    }
+
+    public int getV() {
+        return V;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Возвращает компактное представление графа только для чтения.
+     * Индекс смежности строится один раз и переиспользуется до следующего изменения графа.
+     */
+    public GraphView view() {
+        return compactView();
+    }
+
+    CompactGraph compactView() {
+        CompactGraph current = view;
+        if (current == null) {
+            current = new CompactGraph(V, src, dest, weight, edgeCount);
+            view = current;
+            weightShared = true;
+        }
+        return current;
+    }
+
+    /**
+     * Вспомогательный метод для получения всех уникальных вершин,
+     * которые реально используются в ребрах.
+     */
+    public Set<Integer> getVertices() {
+        Set<Integer> vertices = new HashSet<>();
+        for (int e = 0; e < edgeCount; e++) {
+            vertices.add(src[e]);
+            vertices.add(dest[e]);
+        }
+        return vertices;
+    }
+
+    /**
+     * Ячейка таблицы с этим ребром либо пустая ячейка, куда его можно вставить.
+     */
+    private int findSlot(int src, int dest, int weight) {
+        int mask = edgeTable.length - 1;
+        int slot = hash(src, dest, weight) & mask;
+        while (edgeTable[slot] != 0) {
+            int e = edgeTable[slot] - 1;
+            if (this.src[e] == src && this.dest[e] == dest && this.weight[e] == weight) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Удаление из таблицы с линейным пробированием: последующие элементы кластера
+     * сдвигаются назад, чтобы поиск не обрывался на образовавшейся дыре.
+     */
+    private void removeSlot(int slot) {
+        int mask = edgeTable.length - 1;
+        int hole = slot;
+        edgeTable[hole] = 0;
+        int j = hole;
+        while (true) {
+            j = (j + 1) & mask;
+            if (edgeTable[j] == 0) {
+                return;
+            }
+            int e = edgeTable[j] - 1;
+            int home = hash(src[e], dest[e], weight[e]) & mask;
+            boolean reachable = hole <= j ? (hole < home && home <= j) : (hole < home || home <= j);
+            if (!reachable) {
+                edgeTable[hole] = edgeTable[j];
+                edgeTable[j] = 0;
+                hole = j;
+            }
+        }
+    }
+
+    private void rehash() {
+        int[] table = new int[edgeTable.length * 2];
+        int mask = table.length - 1;
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = hash(src[e], dest[e], weight[e]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = e + 1;
+        }
+        edgeTable = table;
+    }
+
+    private static int hash(int src, int dest, int weight) {
+        int h = src * 0x9E3779B1 + dest;
+        h = h * 0x85EBCA6B + weight;
+        return h ^ (h >>> 16);
+    }
+}
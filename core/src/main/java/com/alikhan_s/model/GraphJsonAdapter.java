@@ -0,0 +1,42 @@
+package com.alikhan_s.model;
+
+import com.alikhan_s.io.GraphJsonLoader;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Адаптер Gson для Graph.
+ * Сохраняет прежний формат файлов: { "V": ..., "edges": [ { "src", "dest", "weight" }, ... ] }.
+ * Чтение и запись потоковые: ребра не собираются в промежуточное дерево JsonElement.
+ */
+public class GraphJsonAdapter extends TypeAdapter<Graph> {
+
+    @Override
+    public void write(JsonWriter out, Graph graph) throws IOException {
+        if (graph == null) {
+            out.nullValue();
+            return;
+        }
+        GraphView view = graph.view();
+        out.beginObject();
+        out.name("V").value(graph.getV());
+        out.name("edges").beginArray();
+        for (int e = 0; e < view.edgeCount(); e++) {
+            out.beginObject();
+            out.name("src").value(view.src(e));
+            out.name("dest").value(view.dest(e));
+            out.name("weight").value(view.weight(e));
+            out.endObject();
+        }
+        out.endArray();
+        out.endObject();
+    }
+
+    @Override
+    public Graph read(JsonReader in) throws IOException {
+        return GraphJsonLoader.read(in, null);
+    }
+}
@@ -0,0 +1,50 @@
+package com.alikhan_s.model;
+
+/**
+ * Представление графа только для чтения поверх примитивных массивов.
+ * Ребра адресуются индексами 0..edgeCount()-1, смежность хранится в формате CSR
+ * (compressed sparse row). Методы не создают объектов, поэтому их можно
+ * вызывать в горячих циклах.
+ */
+public interface GraphView {
+
+    int getV();
+
+    int edgeCount();
+
+    int src(int e);
+
+    int dest(int e);
+
+    int weight(int e);
+
+    /**
+     * Начало (включительно) списка смежности вершины v.
+     */
+    int adjacencyStart(int v);
+
+    /**
+     * Конец (не включительно) списка смежности вершины v.
+     */
+    int adjacencyEnd(int v);
+
+    /**
+     * Индекс ребра в позиции i списка смежности.
+     */
+    int adjacentEdge(int i);
+
+    /**
+     * Возвращает второй конец ребра e относительно вершины v.
+     */
+    default int other(int e, int v) {
+        int s = src(e);
+        return s == v ? dest(e) : s;
+    }
+
+    /**
+     * Создает объект Edge для ребра e (для кода, работающего со старым API).
+     */
+    default Edge edge(int e) {
+        return new Edge(src(e), dest(e), weight(e));
+    }
+}
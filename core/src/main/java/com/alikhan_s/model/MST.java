@@ -0,0 +1,461 @@
+package com.alikhan_s.model;
+
+import com.alikhan_s.algorithm.ReplacementEdges;
+import com.alikhan_s.metrics.Counter;
+import com.alikhan_s.metrics.Histogram;
+import com.alikhan_s.metrics.Metrics;
+import com.alikhan_s.metrics.ReconnectEvent;
+import com.alikhan_s.metrics.SplitEvent;
+import com.google.gson.annotations.JsonAdapter;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Класс, представляющий Минимальное Остовное Дерево (MST).
+ * Хранит ссылку на исходный граф и на общий остовный лес ({@link SpanningForest}).
+ * Объект MST - это представление либо всего леса, либо одной его компоненты:
+ * разделение и объединение не копируют ребра, а выполняют cut/link за O(log n).
+ * Представления одного леса разделяют состояние: изменение через одно видно в остальных.
+ */
+@JsonAdapter(MSTJsonAdapter.class)
+public class MST {
+    /**
+     * Значение root для представления всего леса.
+     */
+    private static final int WHOLE_FOREST = -1;
+
+    private static final Histogram SPLIT_NANOS = Metrics.histogram("mst.split.nanos");
+    private static final Counter SPLIT_FAST = Metrics.counter("mst.split.fastPath");
+    private static final Histogram RECONNECT_NANOS = Metrics.histogram("mst.reconnect.nanos");
+    private static final Histogram RECONNECT_SCANNED = Metrics.histogram("mst.reconnect.edgesScanned");
+    private static final Counter RECONNECT_FAST = Metrics.counter("mst.reconnect.fastPath");
+    private static final Histogram BATCH_RECONNECT_NANOS = Metrics.histogram("mst.reconnect.batch.nanos");
+
+    private final Graph originalGraph;
+    private final SpanningForest forest;
+    private final int root;
+
+    public MST(Graph originalGraph, Set<Edge> mstEdges) {
+        this(originalGraph, new SpanningForest(originalGraph, mstEdges), WHOLE_FOREST);
+    }
+
+    /**
+     * MST всего леса поверх готового леса (см. {@link MSTSnapshot#toMST()}).
+     */
+    MST(Graph originalGraph, SpanningForest forest) {
+        this(originalGraph, forest, WHOLE_FOREST);
+    }
+
+    /**
+     * Приватный конструктор для представлений (split/union):
+     * root - вершина компоненты или WHOLE_FOREST.
+     */
+    private MST(Graph originalGraph, SpanningForest forest, int root) {
+        this.originalGraph = originalGraph;
+        this.forest = forest;
+        this.root = root;
+    }
+
+    /**
+     * Ребра MST в порядке их добавления в дерево.
+     */
+    public Set<Edge> getMstEdges() {
+        if (root == WHOLE_FOREST) {
+            return new LinkedHashSet<>(forest.edges());
+        }
+        return new LinkedHashSet<>(forest.componentEdgesInOrder(root));
+    }
+
+    /**
+     * Ребра MST, доступные по номеру в порядке добавления и в порядке весов.
+     * Для всего леса это живое представление (O(log n) на обращение),
+     * для компоненты - снимок, построенный за O(c log c) на примитивных массивах;
+     * компонента, содержащая все ребра леса, получает живое представление.
+     */
+    public OrderedEdges getOrderedEdges() {
+        return root == WHOLE_FOREST ? forest.order() : forest.componentOrder(root);
+    }
+
+    /**
+     * Неизменяемая версия всего леса; ребра разделяются с соседними версиями.
+     * Первый снимок леса стоит O(n log n), последующие - O(1).
+     */
+    public MSTSnapshot snapshot() {
+        return forest.snapshot(null, null);
+    }
+
+    /**
+     * То же, что {@link #snapshot()}, с описанием шага, которым получена версия.
+     */
+    public MSTSnapshot snapshot(Edge removedEdge, Edge addedEdge) {
+        return forest.snapshot(removedEdge, addedEdge);
+    }
+
+    /**
+     * Представление компоненты леса, содержащей вершину (в том числе одиночной вершины).
+     */
+    public MST componentOf(int vertex) {
+        if (vertex < 0 || vertex >= originalGraph.getV()) {
+            throw new IllegalArgumentException("Вершина вне графа: " + vertex);
+        }
+        return new MST(originalGraph, forest, vertex);
+    }
+
+    public Graph getOriginalGraph() {
+        return originalGraph;
+    }
+
+    /**
+     * Получает все вершины, задействованные в данном MST (копия; для проверки
+     * принадлежности используйте {@link #containsVertex}).
+     */
+    public Set<Integer> getVertices() {
+        Set<Integer> result = new HashSet<>();
+        for (int v : vertexArray()) {
+            result.add(v);
+        }
+        return result;
+    }
+
+    /**
+     * Число вершин в данном MST; для компоненты - O(1).
+     */
+    public int vertexCount() {
+        return root == WHOLE_FOREST ? forest.memberCount() : forest.componentSize(root);
+    }
+
+    /**
+     * Проверяет, лежит ли вершина в этом MST: одно сравнение меток компонент.
+     */
+    public boolean containsVertex(int vertex) {
+        if (root == WHOLE_FOREST) {
+            return forest.isMember(vertex);
+        }
+        return forest.connected(root, vertex);
+    }
+
+    /**
+     * Возвращает самое легкое ребро исходного графа вне MST, которое восстановит
+     * связность, если удалить treeEdge. Первый вызов после изменения дерева строит
+     * таблицу замен за O(m log n), последующие отвечают за O(1).
+     *
+     * @return Ребро-замена или null, если без treeEdge граф распадается.
+     */
+    public Edge getReplacementEdge(Edge treeEdge) {
+        int e = originalGraph.indexOf(treeEdge);
+        if (e < 0 || !forest.contains(treeEdge) || !containsVertex(treeEdge.src)) {
+            throw new IllegalArgumentException("Ребро не входит в MST: " + treeEdge);
+        }
+        ReplacementEdges table = forest.currentReplacements();
+        int r = table.replacementFor(e);
+        return r < 0 ? null : table.getView().edge(r);
+    }
+
+    /**
+     * Добавляет ребро в исходный граф и обновляет MST без полной перестройки:
+     * если ребро замыкает цикл, из дерева вытесняется самое тяжелое ребро цикла
+     * (поиск максимума на пути, O(log n)).
+     *
+     * @return Ребро, покинувшее MST, или null, если дерево не изменилось
+     *         (либо новое ребро просто соединило две компоненты).
+     */
+    public Edge insertEdge(int src, int dest, int weight) {
+        originalGraph.addEdge(src, dest, weight);
+        return forest.insert(new Edge(src, dest, weight));
+    }
+
+    /**
+     * Меняет вес ребра исходного графа и обновляет MST без полной перестройки.
+     * Уменьшение веса ребра вне дерева работает как вставка (O(log n)); увеличение
+     * веса ребра дерева запускает поиск замены через разрез (O(m)).
+     *
+     * @return Ребро, покинувшее MST (с новым весом, если это само измененное ребро),
+     *         или null, если набор ребер дерева не изменился.
+     */
+    public Edge changeEdgeWeight(Edge edge, int newWeight) {
+        return forest.reweight(edge, newWeight);
+    }
+
+    /**
+     * Удаляет ребро, случайно выбранное из "среднего" диапазона MST.
+     * Диапазон определен как 30% - 70% ребер в порядке добавления в дерево.
+     *
+     * @return Удаленное ребро.
+     */
+    public Edge removeEdgeRandomInMiddleRange() {
+        return removeEdgeRandomInMiddleRange(ThreadLocalRandom.current());
+    }
+
+    /**
+     * То же, что {@link #removeEdgeRandomInMiddleRange()}, но с заданным генератором:
+     * при одинаковом seed выбираются одни и те же ребра.
+     */
+    public Edge removeEdgeRandomInMiddleRange(RandomGenerator random) {
+        return removeEdge(RemovalPolicy.middleRange(), random);
+    }
+
+    /**
+     * Удаляет ребро, выбранное правилом policy. Для всего леса выбор стоит O(log n)
+     * и не копирует ребра.
+     *
+     * @return Удаленное ребро или null, если MST пуст.
+     */
+    public Edge removeEdge(RemovalPolicy policy, RandomGenerator random) {
+        OrderedEdges edges = getOrderedEdges();
+        if (edges.size() == 0) {
+            return null;
+        }
+        Edge removedEdge = policy.choose(edges, random);
+        // Таблица замен строится до удаления: она описывает дерево вместе с удаляемым ребром.
+        forest.cutWithReplacements(removedEdge);
+        return removedEdge;
+    }
+
+    /**
+     * Удаляет до count ребер, по одному выбирая их правилом policy
+     * (например, отказ нескольких линий сразу).
+     *
+     * @return Удаленные ребра; меньше count, если ребра кончились.
+     */
+    public List<Edge> removeEdges(int count, RemovalPolicy policy, RandomGenerator random) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Число ребер не может быть отрицательным: " + count);
+        }
+        List<Edge> removed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrderedEdges edges = getOrderedEdges();
+            if (edges.size() == 0) {
+                break;
+            }
+            Edge edge = policy.choose(edges, random);
+            forest.cutAll(List.of(edge));
+            removed.add(edge);
+        }
+        return removed;
+    }
+
+    /**
+     * Удаляет заданные ребра из леса.
+     *
+     * @throws IllegalArgumentException если какого-то ребра нет в MST (тогда MST не меняется).
+     */
+    public void removeEdges(Collection<Edge> edges) {
+        forest.cutAll(edges);
+    }
+
+    /**
+     * Восстанавливает лес после удаления нескольких ребер: k+1 компонент соединяются
+     * по Борувке за один проход по ребрам графа вместо k отдельных поисков. Соединяются только
+     * компоненты, содержащие концы удаленных ребер; другие компоненты леса (например, оставленные
+     * разъединенными прошлым вызовом) не затрагиваются.
+     *
+     * @param removedEdges Удаленные ребра; по их концам определяются затронутые компоненты.
+     * @param reuseRemoved Можно ли снова использовать удаленные ребра. false - ребра недоступны
+     *                     (отказ линий), и лес собирается только из оставшихся ребер графа.
+     *                     Запрет действует только на этот вызов: ребра остаются в графе, и
+     *                     последующие шаги ({@link #reconnectComponents}, поиск замены при одиночном
+     *                     удалении) могут их использовать.
+     * @return Добавленные ребра и затронутые компоненты; если компонент осталось больше одной,
+     *         соединить их нечем.
+     */
+    public BatchReconnect reconnectComponents(Collection<Edge> removedEdges, boolean reuseRemoved) {
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+        int[] roots = new int[2 * removedEdges.size()];
+        int[] excluded = new int[reuseRemoved ? 0 : removedEdges.size()];
+        int i = 0;
+        for (Edge edge : removedEdges) {
+            roots[2 * i] = edge.src;
+            roots[2 * i + 1] = edge.dest;
+            if (!reuseRemoved) {
+                excluded[i] = originalGraph.indexOf(edge);
+            }
+            i++;
+        }
+        Arrays.sort(excluded);
+        List<Edge> added = forest.reconnectAll(roots, excluded);        Map<Integer, MST> components = new LinkedHashMap<>();
+        for (Edge edge : removedEdges) {
+            components.putIfAbsent(forest.labelOf(edge.src), new MST(originalGraph, forest, edge.src));
+            components.putIfAbsent(forest.labelOf(edge.dest), new MST(originalGraph, forest, edge.dest));
+        }
+        if (Metrics.ENABLED) {
+            BATCH_RECONNECT_NANOS.record(System.nanoTime() - start);
+        }
+        return new BatchReconnect(added, new ArrayList<>(components.values()));
+    }
+
+    /**
+     * Разделяет текущее MST (после удаления ребра) на две связные компоненты.
+     * Компоненты - это представления того же леса, а не копии.
+     *
+     * @return Список из двух MST, представляющих компоненты.
+     */
+    public List<MST> splitIntoComponents() {
+        SplitEvent event = new SplitEvent();
+        event.begin();
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+
+        List<MST> components = split(event);
+
+        if (Metrics.ENABLED) {
+            SPLIT_NANOS.record(System.nanoTime() - start);
+            if (event.fastPath) {
+                SPLIT_FAST.increment();
+            }
+        }
+        event.commit();
+        return components;
+    }
+
+    private int[] vertexArray() {
+        if (root != WHOLE_FOREST) {
+            return forest.componentVertices(root);
+        }
+        int[] result = new int[forest.memberCount()];
+        int count = 0;
+        for (int v = 0; v < originalGraph.getV(); v++) {
+            if (forest.isMember(v)) {
+                result[count++] = v;
+            }
+        }
+        return result;
+    }
+
+    private List<MST> split(SplitEvent event) {
+        Edge removed = forest.pendingRemoval();
+        if (removed != null && (containsVertex(removed.src) || containsVertex(removed.dest))) {
+            event.fastPath = true;
+            return List.of(new MST(originalGraph, forest, removed.src), new MST(originalGraph, forest, removed.dest));
+        }
+
+        // Общий случай: ищем вершину с меткой, отличной от метки первой вершины.
+        int first = -1;
+        for (int vertex : vertexArray()) {
+            event.verticesVisited++;
+            if (first == -1) {
+                first = vertex;
+            } else if (!forest.connected(first, vertex)) {
+                return List.of(new MST(originalGraph, forest, first), new MST(originalGraph, forest, vertex));
+            }
+        }
+        return List.of(new MST(originalGraph, new HashSet<>()), new MST(originalGraph, new HashSet<>()));
+    }
+
+    /**
+     * Ищет минимальное по весу ребро в *исходном* графе,
+     * которое соединяет *этот* MST (компоненту) с *другим* MST.
+     * Если компоненты получены разделением по удаленному ребру, ответ берется
+     * из таблицы замен за O(1); иначе просматриваются все ребра графа.
+     *
+     * @param other Другой MST (вторая компонента).
+     * @return Ребро с минимальным весом.
+     */
+    public Edge findMinEdgeBetween(MST other) {
+        ReconnectEvent event = new ReconnectEvent();
+        event.begin();
+        long start = Metrics.ENABLED ? System.nanoTime() : 0;
+
+        Edge result = findMinEdge(other, event);
+
+        if (Metrics.ENABLED) {
+            RECONNECT_NANOS.record(System.nanoTime() - start);
+            RECONNECT_SCANNED.record(event.edgesScanned);
+            if (event.fastPath) {
+                RECONNECT_FAST.increment();
+            }
+        }
+        event.commit();
+        return result;
+    }
+
+    private Edge findMinEdge(MST other, ReconnectEvent event) {
+        if (isSplitPairWith(other)) {
+            event.fastPath = true;
+            ReplacementEdges replacements = forest.replacements();
+            GraphView view = replacements.getView();
+            int removed = originalGraph.indexOf(forest.pendingRemoval());
+            int replacement = replacements.replacementFor(removed);
+            // Удаленное ребро тоже соединяет компоненты; при равном весе побеждает меньший индекс,
+            // как и при полном просмотре.
+            if (replacement >= 0 && (view.weight(replacement) < view.weight(removed)
+                    || (view.weight(replacement) == view.weight(removed) && replacement < removed))) {
+                return view.edge(replacement);
+            }
+            return view.edge(removed);
+        }
+
+        // Две компоненты одного леса: просмотр массивов ребер по меткам без вызовов containsVertex.
+        if (forest == other.forest && root != WHOLE_FOREST && other.root != WHOLE_FOREST
+                && !forest.connected(root, other.root)) {
+            event.edgesScanned = originalGraph.edgeCount();
+            return forest.minEdgeBetween(root, other.root);
+        }
+
+        GraphView view = originalGraph.view();
+        int minEdge = -1;
+
+        event.edgesScanned = view.edgeCount();
+        for (int e = 0; e < view.edgeCount(); e++) {
+            if (minEdge != -1 && view.weight(e) >= view.weight(minEdge)) {
+                continue;
+            }
+            event.candidatesChecked++;
+            int src = view.src(e);
+            int dest = view.dest(e);
+            boolean isCrossEdge = (this.containsVertex(src) && other.containsVertex(dest)) ||
+                    (this.containsVertex(dest) && other.containsVertex(src));
+
+            if (isCrossEdge) {
+                minEdge = e;
+            }
+        }
+        return minEdge == -1 ? null : view.edge(minEdge);
+    }
+
+    /**
+     * Объединяет этот MST, другой MST и соединяющее ребро.
+     * Для компонент одного леса ребро просто добавляется в лес (link),
+     * и возвращается представление объединенной компоненты.
+     */
+    public MST unionWith(MST other, Edge connectingEdge) {
+        if (forest == other.forest && connectingEdge != null && joins(other, connectingEdge)) {
+            forest.linkReplacing(connectingEdge);
+            if (forest.isSpanning()) {
+                return new MST(originalGraph, forest, WHOLE_FOREST);
+            }
+            return new MST(originalGraph, forest, connectingEdge.src);
+        }
+
+        // Разные леса: собираем новый лес из копий ребер, сохраняя порядок добавления.
+        Set<Edge> combinedEdges = new LinkedHashSet<>(this.getMstEdges());
+        combinedEdges.addAll(other.getMstEdges());
+        if (connectingEdge != null) {
+            combinedEdges.add(connectingEdge);
+        }
+        return new MST(this.originalGraph, combinedEdges);
+    }
+
+    /**
+     * Проверяет, что ребро соединяет две разные компоненты: одну из this, другую из other.
+     */
+    private boolean joins(MST other, Edge edge) {
+        boolean crosses = (containsVertex(edge.src) && other.containsVertex(edge.dest))
+                || (containsVertex(edge.dest) && other.containsVertex(edge.src));
+        return crosses && !forest.connected(edge.src, edge.dest);
+    }
+
+    /**
+     * Проверяет, что this и other - две стороны удаленного ребра
+     * и таблица замен для них все еще актуальна.
+     */
+    private boolean isSplitPairWith(MST other) {
+        Edge removed = forest.pendingRemoval();
+        if (forest != other.forest || removed == null
+                || forest.replacements().getView() != originalGraph.view()) {
+            return false;
+        }
+        return (containsVertex(removed.src) && other.containsVertex(removed.dest))
+                || (containsVertex(removed.dest) && other.containsVertex(removed.src));
+    }
+}
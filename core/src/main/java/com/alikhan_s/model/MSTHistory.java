@@ -0,0 +1,151 @@
+package com.alikhan_s.model;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * История версий MST с отменой и повтором.
+ * <p>
+ * Все состояние истории (текущая версия и стеки отмены и повтора) - один неизменяемый объект,
+ * опубликованный через {@link AtomicReference}. Читатели получают текущую версию одним
+ * чтением без блокировок и никогда не видят промежуточного состояния. Писатель один:
+ * каждое изменение - compareAndSet, и одновременная запись из другого потока обнаруживается.
+ * Стеки - неизменяемые списки, поэтому шаг истории стоит O(1) памяти сверх самой версии.
+ * Глубина отмены ограничена maxDepth: при переполнении самая старая версия отбрасывается
+ * (список копируется, O(maxDepth)), и память истории не растет с числом шагов.
+ */
+public final class MSTHistory {
+    private final int maxDepth;
+    private final AtomicReference<State> state;
+
+    /**
+     * @param maxDepth Сколько версий хранится для отмены (не меньше 1).
+     */
+    public MSTHistory(MSTSnapshot initial, int maxDepth) {
+        if (initial == null) {
+            throw new IllegalArgumentException("Начальная версия не может быть null");
+        }
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Глубина истории должна быть положительной: " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+        state = new AtomicReference<>(new State(initial, null, 0, null, 0));
+    }
+
+    /**
+     * Текущая версия (без блокировок).
+     */
+    public MSTSnapshot current() {
+        return state.get().current;
+    }
+
+    /**
+     * Номер текущей версии: растет с каждой фиксацией, отменой и повтором.
+     */
+    public long version() {
+        return state.get().version;
+    }
+
+    public boolean canUndo() {
+        return state.get().undo != null;
+    }
+
+    public boolean canRedo() {
+        return state.get().redo != null;
+    }
+
+    /**
+     * Делает next текущей версией; прежняя уходит в стек отмены, стек повтора очищается.
+     *
+     * @throws IllegalStateException при одновременной записи из другого потока.
+     */
+    public void commit(MSTSnapshot next) {
+        if (next == null) {
+            throw new IllegalArgumentException("Версия не может быть null");
+        }
+        State s = state.get();
+        Versions undo = new Versions(s.current, s.undo);
+        int undoDepth = s.undoDepth + 1;
+        if (undoDepth > maxDepth) {
+            undo = undo.take(maxDepth);
+            undoDepth = maxDepth;
+        }
+        publish(s, new State(next, undo, undoDepth, null, s.version + 1));
+    }
+
+    /**
+     * Возвращается к предыдущей версии.
+     *
+     * @return Новая текущая версия или null, если отменять нечего.
+     * @throws IllegalStateException при одновременной записи из другого потока.
+     */
+    public MSTSnapshot undo() {
+        State s = state.get();
+        if (s.undo == null) {
+            return null;
+        }
+        State next = new State(s.undo.head, s.undo.tail, s.undoDepth - 1, new Versions(s.current, s.redo),
+                s.version + 1);
+        publish(s, next);
+        return next.current;
+    }
+
+    /**
+     * Повторяет отмененный шаг.
+     *
+     * @return Новая текущая версия или null, если повторять нечего.
+     * @throws IllegalStateException при одновременной записи из другого потока.
+     */
+    public MSTSnapshot redo() {
+        State s = state.get();
+        if (s.redo == null) {
+            return null;
+        }
+        // Перед повтором была отмена, поэтому глубина не превысит maxDepth.
+        State next = new State(s.redo.head, new Versions(s.current, s.undo), s.undoDepth + 1, s.redo.tail,
+                s.version + 1);
+        publish(s, next);
+        return next.current;
+    }
+
+    private void publish(State expected, State next) {
+        if (!state.compareAndSet(expected, next)) {
+            throw new IllegalStateException("История MST изменена другим писателем");
+        }
+    }
+
+    /**
+     * Неизменяемый односвязный список версий (стек).
+     */
+    private static final class Versions {
+        final MSTSnapshot head;
+        final Versions tail;
+
+        Versions(MSTSnapshot head, Versions tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+
+        /**
+         * Первые count версий (новая копия пути; хвост отбрасывается).
+         */
+        Versions take(int count) {
+            return new Versions(head, count == 1 || tail == null ? null : tail.take(count - 1));
+        }
+    }
+
+    private static final class State {
+        final MSTSnapshot current;
+        final Versions undo;
+        final int undoDepth;
+        final Versions redo;
+        final long version;
+
+        State(MSTSnapshot current, Versions undo, int undoDepth, Versions redo, long version) {
+            this.current = current;
+            this.undo = undo;
+            this.undoDepth = undoDepth;
+            this.redo = redo;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.alikhan_s.model;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+
+import java.lang.reflect.Type;
+
+/**
+ * Адаптер Gson для MST.
+ * MST хранит лишь ссылку на общий лес, поэтому для снимка в JSON ребра и вершины
+ * материализуются в прежнем формате: { "originalGraph", "mstEdges", "vertices" }.
+ */
+public class MSTJsonAdapter implements JsonSerializer<MST> {
+
+    @Override
+    public JsonElement serialize(MST mst, Type typeOfSrc, JsonSerializationContext context) {
+        JsonArray edges = new JsonArray();
+        for (Edge edge : mst.getMstEdges()) {
+            edges.add(context.serialize(edge));
+        }
+        JsonArray vertices = new JsonArray();
+        for (int vertex : mst.getVertices()) {
+            vertices.add(vertex);
+        }
+
+        JsonObject result = new JsonObject();
+        result.add("originalGraph", context.serialize(mst.getOriginalGraph()));
+        result.add("mstEdges", edges);
+        result.add("vertices", vertices);
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package com.alikhan_s.model;
+
+import com.alikhan_s.algorithm.PersistentIntMap;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Неизменяемая версия остовного леса ({@link MST#snapshot()}).
+ * <p>
+ * Ребра хранятся в {@link PersistentIntMap} (индекс ребра в графе -> вес на момент снимка),
+ * которое лес после первого снимка обновляет при каждом link и cut. Снимок не копирует ребра: соседние версии
+ * разделяют почти все узлы, и каждая следующая стоит O(log n) памяти. Методы чтения снимка
+ * обращаются только к представлению графа, захваченному при создании, поэтому их можно вызывать
+ * из любых потоков без блокировок, пока владелец MST продолжает его менять. Исключение -
+ * {@link #toMST()}: он строит MST поверх текущего графа и вызывается владельцем графа.
+ * <p>
+ * Версия помнит шаг, которым она получена: удаленное и добавленное ребро (или null).
+ */
+public final class MSTSnapshot {
+    private final Graph graph;
+    /** Представление графа на момент снимка: концы ребер по индексу в нем не меняются. */
+    private final GraphView view;
+    private final PersistentIntMap edges;
+    private final long totalWeight;
+    private final Edge removedEdge;
+    private final Edge addedEdge;
+
+    MSTSnapshot(Graph graph, PersistentIntMap edges, long totalWeight, Edge removedEdge, Edge addedEdge) {
+        this.graph = graph;
+        this.view = graph.view();
+        this.edges = edges;
+        this.totalWeight = totalWeight;
+        this.removedEdge = removedEdge;
+        this.addedEdge = addedEdge;
+    }
+
+    public Graph getGraph() {
+        return graph;
+    }
+
+    public int size() {
+        return edges.size();
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Ребро, удаленное шагом, который привел к этой версии.
+     */
+    public Edge getRemovedEdge() {
+        return removedEdge;
+    }
+
+    /**
+     * Ребро, добавленное шагом, который привел к этой версии.
+     */
+    public Edge getAddedEdge() {
+        return addedEdge;
+    }
+
+    /**
+     * Версия получена удалением ребра, и компоненты еще не соединены.
+     */
+    public boolean isSplit() {
+        return removedEdge != null && addedEdge == null;
+    }
+
+    /**
+     * Входит ли ребро в версию с весом на момент снимка.
+     */
+    public boolean contains(Edge edge) {
+        int V = view.getV();
+        if (edge.src < 0 || edge.src >= V || edge.dest < 0 || edge.dest >= V) {
+            return false;
+        }
+        for (int i = view.adjacencyStart(edge.src), end = view.adjacencyEnd(edge.src); i < end; i++) {
+            int e = view.adjacentEdge(i);
+            if (view.other(e, edge.src) == edge.dest && edges.containsKey(e) && edges.get(e, 0) == edge.weight) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ребра версии в порядке индексов в графе, с весами на момент снимка.
+     */
+    public Set<Edge> getEdges() {
+        Set<Edge> result = new LinkedHashSet<>();
+        edges.forEach((e, weight) -> result.add(new Edge(view.src(e), view.dest(e), weight)));
+        return result;
+    }
+
+    /**
+     * Новое изменяемое MST с ребрами этой версии (например, для отмены шага).
+     * Ребра, вес которых с тех пор изменился, берутся с текущим весом.
+     * <p>
+     * Лес строится заново за O(V log V); отображение ребер для снимков он получает от этой версии,
+     * поэтому следующий снимок нового MST стоит O(1). Метод читает текущий граф и должен
+     * вызываться потоком, который этот граф изменяет.
+     */
+    public MST toMST() {
+        return new MST(graph, new SpanningForest(graph, edges, totalWeight));
+    }
+
+    @Override
+    public String toString() {
+        return "ребер: " + size() + ", вес: " + totalWeight;
+    }
+}
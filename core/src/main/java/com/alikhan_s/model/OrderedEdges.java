@@ -0,0 +1,32 @@
+package com.alikhan_s.model;
+
+/**
+ * Ребра MST (или его компоненты), доступные по номеру в двух порядках:
+ * по порядку добавления в дерево и по весу (пара вес, индекс ребра в графе).
+ * Используется политиками удаления ({@link RemovalPolicy}) для выбора ребра без копирования.
+ */
+public interface OrderedEdges {
+
+    int size();
+
+    /**
+     * k-е ребро в порядке добавления в дерево (k с нуля).
+     */
+    Edge byInsertion(int k);
+
+    /**
+     * k-е по возрастанию веса ребро (k с нуля).
+     */
+    Edge byWeight(int k);
+
+    /**
+     * Сумма весов ребер; отрицательные веса считаются нулем.
+     */
+    long totalWeight();
+
+    /**
+     * Ребро, на котором накопленная (в порядке весов) сумма весов превышает target.
+     * Для target, равномерного в [0, totalWeight()), выбор пропорционален весу.
+     */
+    Edge byCumulativeWeight(long target);
+}
@@ -0,0 +1,162 @@
+package com.alikhan_s.model;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Правило выбора ребра MST для удаления.
+ * Стандартные правила создаются фабричными методами; для воспроизводимости
+ * генератор передается снаружи или фиксируется через {@link #seeded(long)}.
+ */
+public interface RemovalPolicy {
+
+    /**
+     * Выбирает ребро для удаления.
+     *
+     * @param edges Ребра дерева; не пусты.
+     */
+    Edge choose(OrderedEdges edges, RandomGenerator random);
+
+    /**
+     * То же правило, но со своим генератором {@link SplittableRandom} с заданным seed:
+     * переданный в {@link #choose} генератор игнорируется. Генератор не потокобезопасен,
+     * поэтому сценарии получают свою копию через {@link #forSimulation()}.
+     */
+    default RemovalPolicy seeded(long seed) {
+        return withGenerator(this, seed, new SplittableRandom(seed));
+    }
+
+    /**
+     * Правило для одного экземпляра сценария; вызывается при его создании.
+     * Правила без состояния возвращают себя, правило {@link #seeded(long)} - копию
+     * с генератором, отделенным split() от своего: сценарии, созданные в одном порядке,
+     * получают одни и те же последовательности и не делят генератор между потоками.
+     */
+    default RemovalPolicy forSimulation() {
+        return this;
+    }
+
+    private static RemovalPolicy withGenerator(RemovalPolicy base, long seed, SplittableRandom own) {
+        return new RemovalPolicy() {
+            @Override
+            public Edge choose(OrderedEdges edges, RandomGenerator random) {
+                return base.choose(edges, own);
+            }
+
+            @Override
+            public RemovalPolicy forSimulation() {
+                SplittableRandom child;
+                synchronized (own) {
+                    child = own.split();
+                }
+                return withGenerator(base.forSimulation(), seed, child);
+            }
+
+            @Override
+            public String toString() {
+                return base + "(seed=" + seed + ")";
+            }
+        };
+    }
+
+    /**
+     * Случайное ребро из диапазона 30% - 70% в порядке добавления в дерево
+     * (исходное поведение {@link MST#removeEdgeRandomInMiddleRange()}).
+     */
+    static RemovalPolicy middleRange() {
+        return Standard.MIDDLE_RANGE;
+    }
+
+    /**
+     * Случайное ребро из диапазона 30% - 70% в порядке весов.
+     */
+    static RemovalPolicy middleRangeByWeight() {
+        return Standard.MIDDLE_RANGE_BY_WEIGHT;
+    }
+
+    /**
+     * Самое тяжелое ребро (при равных весах - с большим индексом в графе).
+     */
+    static RemovalPolicy heaviest() {
+        return Standard.HEAVIEST;
+    }
+
+    /**
+     * Случайное ребро с вероятностью, пропорциональной весу;
+     * если все веса не положительны - равновероятно.
+     */
+    static RemovalPolicy weightedRandom() {
+        return Standard.WEIGHTED_RANDOM;
+    }
+
+    /**
+     * Стандартное правило по имени: middle, middle-weight, heaviest, weighted.
+     *
+     * @throws IllegalArgumentException если имя неизвестно.
+     */
+    static RemovalPolicy byName(String name) {
+        for (Standard policy : Standard.values()) {
+            if (policy.name.equals(name)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестное правило удаления: " + name);
+    }
+
+    enum Standard implements RemovalPolicy {
+        MIDDLE_RANGE("middle") {
+            @Override
+            public Edge choose(OrderedEdges edges, RandomGenerator random) {
+                return edges.byInsertion(middleIndex(edges.size(), random));
+            }
+        },
+        MIDDLE_RANGE_BY_WEIGHT("middle-weight") {
+            @Override
+            public Edge choose(OrderedEdges edges, RandomGenerator random) {
+                return edges.byWeight(middleIndex(edges.size(), random));
+            }
+        },
+        HEAVIEST("heaviest") {
+            @Override
+            public Edge choose(OrderedEdges edges, RandomGenerator random) {
+                return edges.byWeight(edges.size() - 1);
+            }
+        },
+        WEIGHTED_RANDOM("weighted") {
+            @Override
+            public Edge choose(OrderedEdges edges, RandomGenerator random) {
+                long total = edges.totalWeight();
+                if (total <= 0) {
+                    return edges.byWeight(random.nextInt(edges.size()));
+                }
+                return edges.byCumulativeWeight(random.nextLong(total));
+            }
+        };
+
+        private final String name;
+
+        Standard(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        /**
+         * Номер в диапазоне 30% - 70%; для двух и менее ребер - первое ребро.
+         */
+        private static int middleIndex(int totalEdges, RandomGenerator random) {
+            if (totalEdges <= 2) {
+                return 0;
+            }
+            int startIndex = (int) (totalEdges * 0.3);
+            int endIndex = (int) (totalEdges * 0.7);
+            if (startIndex >= endIndex) {
+                startIndex = 0;
+            }
+            return Math.min(random.nextInt(startIndex, endIndex + 1), totalEdges - 1);
+        }
+    }
+}
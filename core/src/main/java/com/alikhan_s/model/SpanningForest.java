@@ -0,0 +1,873 @@
+package com.alikhan_s.model;
+
+import com.alikhan_s.algorithm.DisjointSetUnion;
+import com.alikhan_s.algorithm.LinkCutTree;
+import com.alikhan_s.algorithm.OrderStatisticTree;
+import com.alikhan_s.algorithm.PersistentIntMap;
+import com.alikhan_s.algorithm.ReplacementEdges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Общее изменяемое состояние остовного леса, на которое ссылаются MST и его компоненты.
+ * Link-cut дерево хранит веса ребер на путях: максимум на пути между вершинами - O(log n).
+ * Ребра дерева дополнительно хранятся в списках смежности на примитивных массивах,
+ * чтобы перечислять компоненту без копирования всего леса.
+ * <p>
+ * Принадлежность вершины компоненте хранится в массиве меток: проверка "в одной ли компоненте"
+ * - одно чтение массива. При объединении перемечается меньшая компонента, при разрезе -
+ * меньшая из двух частей (обходы с обоих концов идут попеременно и останавливаются,
+ * как только одна часть исчерпана), так что стоимость пропорциональна меньшей стороне.
+ * <p>
+ * Каждое ребро дерева занимает слот s: в link-cut дереве ему соответствует узел V + s
+ * между двумя вершинами, что позволяет позже хранить на пути веса ребер.
+ * Слоты также упорядочены двумя деревьями порядковых статистик - по порядку добавления
+ * и по весу, - чтобы выбирать k-е ребро за O(log n) (см. {@link OrderedEdges}).
+ */
+final class SpanningForest {
+    private final Graph graph;
+    private final int V;
+    private final LinkCutTree tree;
+
+    private final Set<Edge> edges = new LinkedHashSet<>();
+    private final boolean[] members;
+    private int memberCount;
+
+    /** Метка компоненты вершины; метки - числа 0..V-1, свободные лежат в freeLabels. */
+    private final int[] label;
+    private final int[] labelSize;
+    private final int[] freeLabels;
+    private int freeLabelCount;
+    /** Стеки попеременного обхода двух сторон разреза (вершина и слот, по которому пришли). */
+    private final int[][] walkVertex = new int[2][];
+    private final int[][] walkFrom = new int[2][];
+    private final int[][] walkVisited = new int[2][];
+
+    /** Слот ребра дерева по индексу ребра в графе, -1 - ребро не в дереве. */
+    private int[] slotOfEdge;
+    private final Edge[] slotEdge;
+    private final int[] freeSlots;
+    private int freeCount;
+
+    /** Списки смежности: полуребро h = 2s (у src) или 2s + 1 (у dest). */
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+
+    /** Порядок добавления: ключ слота - номер link, растущий с каждым добавлением. */
+    private final OrderStatisticTree byInsertion;
+    /** Порядок весов: ключ слота - (вес << 32) | индекс ребра, масса - вес. */
+    private final OrderStatisticTree byWeight;
+    private long nextInsertion;
+    private final OrderedEdges order = new ForestOrder();
+
+    /**
+     * Таблица замен для дерева edges + pendingRemoval (см. {@link ReplacementEdges}).
+     */
+    private ReplacementEdges replacements;
+    private Edge pendingRemoval;
+
+    /**
+     * Ребра леса в неизменяемом отображении индекс -> вес: снимок версии стоит O(1).
+     * Ведется только после первого снимка (null - снимки не запрашивались), чтобы
+     * сценарии без истории не платили за копирование путей при link и cut.
+     */
+    private PersistentIntMap persistentEdges;
+    private long totalWeight;
+
+    SpanningForest(Graph graph, Collection<Edge> initialEdges) {
+        this(graph);
+        for (Edge edge : initialEdges) {
+            link(edge);
+        }
+    }
+
+    /**
+     * Лес с ребрами версии (индекс ребра в графе -> вес на момент версии). Ребра берутся
+     * с текущими весами графа, а отображение для снимков наследуется от версии: меняются
+     * только ребра, вес которых с тех пор изменился.
+     */
+    SpanningForest(Graph graph, PersistentIntMap versionEdges, long versionWeight) {
+        this(graph);
+        GraphView view = graph.view();
+        PersistentIntMap map = versionEdges;
+        long weight = versionWeight;
+        for (int e : versionEdges.keys()) {
+            Edge edge = view.edge(e);
+            link(edge);
+            int oldWeight = versionEdges.get(e, edge.weight);
+            if (oldWeight != edge.weight) {
+                map = map.put(e, edge.weight);
+                weight += edge.weight - oldWeight;
+            }
+        }
+        persistentEdges = map;
+        totalWeight = weight;
+    }
+
+    private SpanningForest(Graph graph) {
+        this.graph = graph;
+        this.V = graph.getV();
+        this.tree = new LinkCutTree(2 * V);
+        this.members = new boolean[V];
+        this.label = new int[V];
+        this.labelSize = new int[V];
+        this.freeLabels = new int[V];
+        for (int v = 0; v < V; v++) {
+            label[v] = v;
+            labelSize[v] = 1;
+        }
+        for (int side = 0; side < 2; side++) {
+            walkVertex[side] = new int[V];
+            walkFrom[side] = new int[V];
+            walkVisited[side] = new int[V];
+        }
+        this.slotOfEdge = new int[graph.edgeCount()];
+        Arrays.fill(slotOfEdge, -1);
+
+        this.slotEdge = new Edge[V];
+        this.freeSlots = new int[V];
+        for (int s = V - 1; s >= 0; s--) {
+            freeSlots[freeCount++] = s;
+        }
+        this.head = new int[V];
+        this.next = new int[2 * V];
+        this.prev = new int[2 * V];
+        Arrays.fill(head, -1);
+        this.byInsertion = new OrderStatisticTree(V);
+        this.byWeight = new OrderStatisticTree(V);
+    }
+
+    Graph getGraph() {
+        return graph;
+    }
+
+    Set<Edge> edges() {
+        return Collections.unmodifiableSet(edges);
+    }
+
+    int edgeCount() {
+        return edges.size();
+    }
+
+    /**
+     * Неизменяемый снимок текущего состояния леса. Первый снимок строит отображение
+     * за O(n log n), следующие стоят O(1).
+     */
+    MSTSnapshot snapshot(Edge removedEdge, Edge addedEdge) {
+        if (persistentEdges == null) {
+            PersistentIntMap map = PersistentIntMap.EMPTY;
+            long weight = 0;
+            for (Edge edge : edges) {
+                map = map.put(graph.indexOf(edge), edge.weight);
+                weight += edge.weight;
+            }
+            persistentEdges = map;
+            totalWeight = weight;
+        }
+        return new MSTSnapshot(graph, persistentEdges, totalWeight, removedEdge, addedEdge);
+    }
+
+    boolean isMember(int v) {
+        return members[v];
+    }
+
+    int memberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Лес является одним деревом, покрывающим все свои вершины.
+     */
+    boolean isSpanning() {
+        return edges.size() == memberCount - 1;
+    }
+
+    boolean contains(Edge edge) {
+        return edges.contains(edge);
+    }
+
+    boolean connected(int u, int v) {
+        return label[u] == label[v];
+    }
+
+    /**
+     * Метка компоненты вершины. Метки меняются при link и cut, поэтому их можно
+     * сравнивать между собой, но не хранить.
+     */
+    int labelOf(int v) {
+        return label[v];
+    }
+
+    /**
+     * Самое легкое ребро графа между компонентами вершин u и v одним проходом по массивам
+     * ребер (векторным, если доступен Vector API).
+     *
+     * @return Ребро или null, если таких ребер нет.
+     * @throws IllegalArgumentException если u и v в одной компоненте.
+     */
+    Edge minEdgeBetween(int u, int v) {
+        CompactGraph view = graph.compactView();
+        int e = view.minCrossEdge(label, label[u], label[v]);
+        return e < 0 ? null : view.edge(e);
+    }
+
+    /**
+     * Число вершин в компоненте, содержащей v.
+     */
+    int componentSize(int v) {
+        return labelSize[label[v]];
+    }
+
+    /**
+     * Добавляет ребро графа в лес.
+     *
+     * @throws IllegalArgumentException если ребра нет в графе или оно замыкает цикл.
+     */
+    void link(Edge edge) {
+        int e = graph.indexOf(edge);
+        if (e < 0) {
+            throw new IllegalArgumentException("Ребро отсутствует в исходном графе: " + edge);
+        }
+        if (connected(edge.src, edge.dest)) {
+            throw new IllegalArgumentException("Ребро замыкает цикл в остовном лесе: " + edge);
+        }
+        ensureEdgeCapacity(e);
+
+        mergeLabels(edge.src, edge.dest);
+        int s = freeSlots[--freeCount];
+        slotEdge[s] = edge;
+        slotOfEdge[e] = s;
+        insertHalf(2 * s, edge.src);
+        insertHalf(2 * s + 1, edge.dest);
+
+        int node = V + s;
+        tree.setValue(node, ((long) edge.weight << 32) | e);
+        tree.link(edge.src, node);
+        tree.link(node, edge.dest);
+        byInsertion.insert(s, nextInsertion++, 0);
+        byWeight.insert(s, ((long) edge.weight << 32) | e, Math.max(edge.weight, 0));
+
+        addMember(edge.src);
+        addMember(edge.dest);
+        edges.add(edge);
+        if (persistentEdges != null) {
+            persistentEdges = persistentEdges.put(e, edge.weight);
+            totalWeight += edge.weight;
+        }
+    }
+
+    /**
+     * Удаляет ребро из леса.
+     *
+     * @return false, если ребра в лесе не было.
+     */
+    boolean cut(Edge edge) {
+        if (!edges.contains(edge)) {
+            return false;
+        }
+        cut(edge, graph.indexOf(edge));
+        return true;
+    }
+
+    private void cut(Edge edge, int e) {
+        edges.remove(edge);
+        if (persistentEdges != null) {
+            persistentEdges = persistentEdges.remove(e);
+            totalWeight -= edge.weight;
+        }
+        int s = slotOfEdge[e];
+        slotOfEdge[e] = -1;
+        removeHalf(2 * s, edge.src);
+        removeHalf(2 * s + 1, edge.dest);
+
+        int node = V + s;
+        tree.cut(edge.src, node);
+        tree.cut(node, edge.dest);
+        byInsertion.remove(s);
+        byWeight.remove(s);
+        slotEdge[s] = null;
+        freeSlots[freeCount++] = s;
+        splitLabels(edge.src, edge.dest);
+    }
+
+    // --- Метки компонент ---
+
+    /**
+     * Перед link: вершины меньшей из компонент u и v получают метку большей.
+     */
+    private void mergeLabels(int u, int v) {
+        int lu = label[u];
+        int lv = label[v];
+        int small = labelSize[lu] < labelSize[lv] ? u : v;
+        int keep = small == u ? lv : lu;
+        int drop = label[small];
+        int count = walk(0, small);
+        int[] visited = walkVisited[0];
+        for (int i = 0; i < count; i++) {
+            label[visited[i]] = keep;
+        }
+        labelSize[keep] += count;
+        labelSize[drop] = 0;
+        freeLabels[freeLabelCount++] = drop;
+    }
+
+    /**
+     * После cut: u и v в одной метке, но в разных деревьях. Обходим обе стороны
+     * попеременно; сторона, обход которой закончился первым, получает новую метку.
+     */
+    private void splitLabels(int u, int v) {
+        int[] count = new int[2];
+        int[] top = {start(0, u), start(1, v)};
+        int done;
+        while (true) {
+            if (top[0] == 0) {
+                done = 0;
+                break;
+            }
+            top[0] = advance(0, top[0], count);
+            if (top[1] == 0) {
+                done = 1;
+                break;
+            }
+            top[1] = advance(1, top[1], count);
+        }
+        int old = label[u];
+        int fresh = freeLabels[--freeLabelCount];
+        int[] visited = walkVisited[done];
+        for (int i = 0; i < count[done]; i++) {
+            label[visited[i]] = fresh;
+        }
+        labelSize[fresh] = count[done];
+        labelSize[old] -= count[done];
+    }
+
+    /**
+     * Полный обход дерева из start с записью вершин в walkVisited[side].
+     *
+     * @return Число вершин.
+     */
+    private int walk(int side, int start) {
+        int[] count = new int[2];
+        int top = start(side, start);
+        while (top > 0) {
+            top = advance(side, top, count);
+        }
+        return count[side];
+    }
+
+    private int start(int side, int vertex) {
+        walkVertex[side][0] = vertex;
+        walkFrom[side][0] = -1;
+        return 1;
+    }
+
+    /**
+     * Один шаг обхода в глубину: снимает вершину со стека и кладет ее соседей по лесу.
+     *
+     * @return Новая вершина стека.
+     */
+    private int advance(int side, int top, int[] count) {
+        int[] stackVertex = walkVertex[side];
+        int[] stackFrom = walkFrom[side];
+        int u = stackVertex[--top];
+        int from = stackFrom[top];
+        walkVisited[side][count[side]++] = u;
+        for (int h = head[u]; h != -1; h = next[h]) {
+            int s = h >> 1;
+            if (s == from) {
+                continue;
+            }
+            Edge edge = edgeOfSlot(s);
+            stackVertex[top] = edge.src == u ? edge.dest : edge.src;
+            stackFrom[top++] = s;
+        }
+        return top;
+    }
+
+    /**
+     * Перечисляет вершины компоненты, содержащей root (обход дерева в глубину).
+     */
+    int[] componentVertices(int root) {
+        int count = walk(0, root);
+        return Arrays.copyOf(walkVisited[0], count);
+    }
+
+    /**
+     * Перечисляет ребра компоненты, содержащей root.
+     */
+    List<Edge> componentEdges(int root) {
+        List<Edge> result = new ArrayList<>();
+        for (int u : componentVertices(root)) {
+            for (int h = head[u]; h != -1; h = next[h]) {
+                // Каждое ребро учитываем один раз - со стороны src.
+                if ((h & 1) == 0) {
+                    result.add(edgeOfSlot(h >> 1));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ребра компоненты, содержащей root, в порядке добавления в дерево.
+     */
+    List<Edge> componentEdgesInOrder(int root) {
+        int[] slots = componentSlots(root);
+        long[] keys = new long[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            keys[i] = byInsertion.keyOf(slots[i]);
+        }
+        sortByKey(slots, keys);
+        List<Edge> result = new ArrayList<>(slots.length);
+        for (int s : slots) {
+            result.add(edgeOfSlot(s));
+        }
+        return result;
+    }
+
+    /**
+     * Порядок всех ребер леса; отражает текущее состояние без копирования.
+     */
+    OrderedEdges order() {
+        return order;
+    }
+
+    /**
+     * Порядок ребер компоненты, содержащей root: снимок, строится за O(c log c),
+     * где c - размер компоненты. Если компонента содержит все ребра леса (остальные
+     * вершины одиночные), возвращается живой порядок всего леса без копирования.
+     */
+    OrderedEdges componentOrder(int root) {
+        if (componentSize(root) - 1 == edges.size()) {
+            return order;
+        }
+        return new ComponentOrder(componentSlots(root));
+    }
+
+    private int[] componentSlots(int root) {
+        int[] vertices = componentVertices(root);
+        int[] slots = new int[Math.max(vertices.length - 1, 0)];
+        int count = 0;
+        for (int u : vertices) {
+            for (int h = head[u]; h != -1; h = next[h]) {
+                if ((h & 1) == 0) {
+                    slots[count++] = h >> 1;
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Сортирует slots по keys (оба массива переставляются согласованно).
+     * Ключи уникальны, поэтому позиция слота - позиция его ключа в отсортированной копии.
+     */
+    private static void sortByKey(int[] slots, long[] keys) {
+        long[] sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        int[] sortedSlots = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            sortedSlots[Arrays.binarySearch(sortedKeys, keys[i])] = slots[i];
+        }
+        System.arraycopy(sortedSlots, 0, slots, 0, slots.length);
+        System.arraycopy(sortedKeys, 0, keys, 0, keys.length);
+    }
+
+    private final class ForestOrder implements OrderedEdges {
+        @Override
+        public int size() {
+            return byInsertion.size();
+        }
+
+        @Override
+        public Edge byInsertion(int k) {
+            return edgeOfSlot(byInsertion.select(k));
+        }
+
+        @Override
+        public Edge byWeight(int k) {
+            return edgeOfSlot(byWeight.select(k));
+        }
+
+        @Override
+        public long totalWeight() {
+            return byWeight.totalMass();
+        }
+
+        @Override
+        public Edge byCumulativeWeight(long target) {
+            return edgeOfSlot(byWeight.selectByMass(target));
+        }
+    }
+
+    /**
+     * Снимок порядка ребер одной компоненты на отсортированных массивах слотов.
+     */
+    private final class ComponentOrder implements OrderedEdges {
+        private final int[] insertionOrder;
+        private final int[] weightOrder;
+        /** cumulative[i] - сумма неотрицательных весов weightOrder[0..i]. */
+        private final long[] cumulative;
+
+        ComponentOrder(int[] slots) {
+            insertionOrder = slots.clone();
+            long[] insertionKeys = new long[slots.length];
+            weightOrder = slots.clone();
+            long[] weightKeys = new long[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                insertionKeys[i] = byInsertion.keyOf(slots[i]);
+                weightKeys[i] = byWeight.keyOf(slots[i]);
+            }
+            sortByKey(insertionOrder, insertionKeys);
+            sortByKey(weightOrder, weightKeys);
+            cumulative = new long[slots.length];
+            long sum = 0;
+            for (int i = 0; i < weightOrder.length; i++) {
+                sum += Math.max(edgeOfSlot(weightOrder[i]).weight, 0);
+                cumulative[i] = sum;
+            }
+        }
+
+        @Override
+        public int size() {
+            return insertionOrder.length;
+        }
+
+        @Override
+        public Edge byInsertion(int k) {
+            return edgeOfSlot(insertionOrder[k]);
+        }
+
+        @Override
+        public Edge byWeight(int k) {
+            return edgeOfSlot(weightOrder[k]);
+        }
+
+        @Override
+        public long totalWeight() {
+            return cumulative.length == 0 ? 0 : cumulative[cumulative.length - 1];
+        }
+
+        @Override
+        public Edge byCumulativeWeight(long target) {
+            if (target < 0 || target >= totalWeight()) {
+                throw new IndexOutOfBoundsException("Вес вне диапазона: " + target);
+            }
+            // Первая позиция, где накопленная сумма больше target.
+            int lo = 0;
+            int hi = cumulative.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cumulative[mid] > target) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return edgeOfSlot(weightOrder[lo]);
+        }
+    }
+
+    // --- Инкрементальное обновление ---
+
+    /**
+     * Учитывает новое ребро графа: если оно замыкает цикл, из цикла вытесняется
+     * самое тяжелое ребро (поиск максимума на пути в link-cut дереве, O(log n)).
+     * Ребра сравниваются по паре (вес, индекс), как в {@link com.alikhan_s.algorithm.KruskalMST}.
+     *
+     * @return Ребро, покинувшее лес, или null.
+     */
+    Edge insert(Edge edge) {
+        invalidateReplacements();
+        int e = graph.indexOf(edge);
+        if (e < 0) {
+            throw new IllegalArgumentException("Ребро отсутствует в исходном графе: " + edge);
+        }
+        if (edge.src == edge.dest || edges.contains(edge)) {
+            return null;
+        }
+        if (!connected(edge.src, edge.dest)) {
+            link(edge);
+            return null;
+        }
+        return swapIfLighter(edge, e);
+    }
+
+    /**
+     * Меняет вес ребра в графе и восстанавливает минимальность леса.
+     * Уменьшение веса ребра вне леса обрабатывается как вставка; увеличение веса
+     * ребра леса - поиском самого легкого ребра через образовавшийся разрез.
+     *
+     * @return Ребро, покинувшее лес (с новым весом, если это само измененное ребро), или null.
+     */
+    Edge reweight(Edge edge, int newWeight) {
+        int e = graph.indexOf(edge);
+        if (e < 0) {
+            throw new IllegalArgumentException("Ребро отсутствует в исходном графе: " + edge);
+        }
+        boolean inForest = edges.contains(edge);
+        Edge updated = graph.setWeight(edge, newWeight);
+        invalidateReplacements();
+
+        if (!inForest) {
+            if (newWeight >= edge.weight || edge.src == edge.dest) {
+                return null;
+            }
+            if (!connected(edge.src, edge.dest)) {
+                link(updated);
+                return null;
+            }
+            return swapIfLighter(updated, e);
+        }
+
+        cut(edge, e);
+        if (newWeight <= edge.weight) {
+            link(updated);
+            return null;
+        }
+        Edge replacement = findMinCrossing(edge.src, edge.dest);
+        link(replacement);
+        return replacement.equals(updated) ? null : updated;
+    }
+
+    private Edge swapIfLighter(Edge edge, int e) {
+        int node = tree.pathMax(edge.src, edge.dest);
+        long heaviestKey = tree.getValue(node);
+        if (heaviestKey > (((long) edge.weight << 32) | e)) {
+            Edge heaviest = slotEdge[node - V];
+            cut(heaviest, (int) heaviestKey);
+            link(edge);
+            return heaviest;
+        }
+        return null;
+    }
+
+    /**
+     * Самое легкое ребро графа между компонентами u и v (по паре вес, индекс).
+     * Просматривает все ребра графа, сравнивая метки концов: O(m).
+     */
+    private Edge findMinCrossing(int u, int v) {
+        int lu = label[u];
+        int lv = label[v];
+        GraphView view = graph.view();
+        long bestKey = Long.MAX_VALUE;
+        int best = -1;
+        for (int e = 0; e < view.edgeCount(); e++) {
+            int la = label[view.src(e)];
+            int lb = label[view.dest(e)];
+            if ((la != lu || lb != lv) && (la != lv || lb != lu)) {
+                continue;
+            }
+            long key = ((long) view.weight(e) << 32) | e;
+            if (key < bestKey) {
+                bestKey = key;
+                best = e;
+            }
+        }
+        return view.edge(best);
+    }
+
+    // --- Пакетное удаление ---
+
+    /**
+     * Удаляет несколько ребер сразу; таблица замен сбрасывается.
+     *
+     * @throws IllegalArgumentException если какого-то ребра нет в лесе (тогда лес не меняется).
+     */
+    void cutAll(Collection<Edge> removed) {
+        for (Edge edge : removed) {
+            if (!edges.contains(edge)) {
+                throw new IllegalArgumentException("Ребро не входит в MST: " + edge);
+            }
+        }
+        invalidateReplacements();
+        for (Edge edge : removed) {
+            cut(edge);
+        }
+    }
+
+    /**
+     * Соединяет компоненты, содержащие вершины roots, самыми легкими ребрами графа по Борувке;
+     * остальные компоненты леса не затрагиваются. Граф просматривается один раз: ребра между
+     * разными затронутыми компонентами собираются в список кандидатов, и раунды Борувки идут
+     * уже по нему, отбрасывая ребра, ставшие внутренними. Ребра сравниваются по паре (вес, индекс),
+     * поэтому выбор однозначен и циклов не бывает.
+     *
+     * @param roots    Вершины затронутых компонент (например, концы удаленных ребер).
+     * @param excluded Индексы ребер графа, которые нельзя использовать в этом вызове (отсортированы).
+     * @return Добавленные ребра в порядке раундов.
+     */
+    List<Edge> reconnectAll(int[] roots, int[] excluded) {
+        invalidateReplacements();
+        boolean[] affected = new boolean[V];
+        for (int v : roots) {
+            affected[label[v]] = true;
+        }
+        GraphView view = graph.view();
+        int m = view.edgeCount();
+        int[] candidates = new int[16];
+        int count = 0;
+        for (int e = 0; e < m; e++) {
+            int a = label[view.src(e)];
+            int b = label[view.dest(e)];
+            if (a != b && affected[a] && affected[b] && Arrays.binarySearch(excluded, e) < 0) {
+                if (count == candidates.length) {
+                    candidates = Arrays.copyOf(candidates, count * 2);
+                }
+                candidates[count++] = e;
+            }
+        }
+
+        // Компоненты - метки; до конца раундов лес не меняется, поэтому метки стабильны.
+        DisjointSetUnion components = new DisjointSetUnion(V);
+        long[] cheapest = new long[V];
+        Arrays.fill(cheapest, Long.MAX_VALUE);
+        int[] touched = new int[V];
+        List<Edge> added = new ArrayList<>();
+        while (count > 0) {
+            int touchedCount = 0;
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int e = candidates[i];
+                int a = components.find(label[view.src(e)]);
+                int b = components.find(label[view.dest(e)]);
+                if (a == b) {
+                    continue;
+                }
+                candidates[kept++] = e;
+                long key = ((long) view.weight(e) << 32) | e;
+                touchedCount = offerCheapest(cheapest, touched, touchedCount, a, key);
+                touchedCount = offerCheapest(cheapest, touched, touchedCount, b, key);
+            }
+            count = kept;
+            for (int i = 0; i < touchedCount; i++) {
+                int c = touched[i];
+                int e = (int) cheapest[c];
+                cheapest[c] = Long.MAX_VALUE;
+                if (components.union(label[view.src(e)], label[view.dest(e)])) {
+                    added.add(view.edge(e));
+                }
+            }
+        }
+        for (Edge edge : added) {
+            link(edge);
+        }
+        return added;
+    }
+
+    private static int offerCheapest(long[] cheapest, int[] touched, int touchedCount, int component, long key) {
+        if (cheapest[component] == Long.MAX_VALUE) {
+            touched[touchedCount++] = component;
+        }
+        if (key < cheapest[component]) {
+            cheapest[component] = key;
+        }
+        return touchedCount;
+    }
+
+    // --- Таблица замен ---
+
+    /**
+     * Возвращает таблицу замен для текущего леса, при необходимости строя ее заново.
+     */
+    ReplacementEdges currentReplacements() {
+        GraphView view = graph.view();
+        if (replacements == null || pendingRemoval != null || replacements.getView() != view) {
+            int[] treeEdges = new int[edges.size()];
+            int i = 0;
+            for (Edge edge : edges) {
+                treeEdges[i++] = graph.indexOf(edge);
+            }
+            replacements = ReplacementEdges.compute(view, treeEdges);
+            pendingRemoval = null;
+        }
+        return replacements;
+    }
+
+    /**
+     * Удаляет ребро, сохраняя таблицу замен, построенную для дерева с этим ребром.
+     */
+    void cutWithReplacements(Edge edge) {
+        currentReplacements();
+        if (cut(edge)) {
+            pendingRemoval = edge;
+        }
+    }
+
+    /**
+     * Ребро, удаленное после построения таблицы замен, или null.
+     */
+    Edge pendingRemoval() {
+        return pendingRemoval;
+    }
+
+    ReplacementEdges replacements() {
+        return replacements;
+    }
+
+    /**
+     * Добавляет ребро, восстанавливающее связность после {@link #cutWithReplacements}.
+     * Если вернули то же ребро, дерево не изменилось, и таблица замен остается верной.
+     */
+    void linkReplacing(Edge edge) {
+        boolean sameTree = edge.equals(pendingRemoval);
+        link(edge);
+        if (sameTree) {
+            pendingRemoval = null;
+        } else {
+            replacements = null;
+            pendingRemoval = null;
+        }
+    }
+
+    private void invalidateReplacements() {
+        replacements = null;
+        pendingRemoval = null;
+    }
+
+    private Edge edgeOfSlot(int s) {
+        return slotEdge[s];
+    }
+
+    private void addMember(int v) {
+        if (!members[v]) {
+            members[v] = true;
+            memberCount++;
+        }
+    }
+
+    private void ensureEdgeCapacity(int e) {
+        if (e >= slotOfEdge.length) {
+            int oldLength = slotOfEdge.length;
+            slotOfEdge = Arrays.copyOf(slotOfEdge, Math.max(e + 1, oldLength * 2));
+            Arrays.fill(slotOfEdge, oldLength, slotOfEdge.length, -1);
+        }
+    }
+
+    private void insertHalf(int h, int v) {
+        prev[h] = -1;
+        next[h] = head[v];
+        if (head[v] != -1) {
+            prev[head[v]] = h;
+        }
+        head[v] = h;
+    }
+
+    private void removeHalf(int h, int v) {
+        if (prev[h] != -1) {
+            next[prev[h]] = next[h];
+        } else {
+            head[v] = next[h];
+        }
+        if (next[h] != -1) {
+            prev[next[h]] = prev[h];
+        }
+    }
+}
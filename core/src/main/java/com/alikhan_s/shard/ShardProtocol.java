@@ -0,0 +1,111 @@
+package com.alikhan_s.shard;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Двоичный протокол между координатором и рабочим процессом (big-endian, поверх любого
+ * потока байт: каналов процесса, сокета).
+ * <pre>
+ * Запрос:  int op (FOREST или SHUTDOWN)
+ *          для FOREST: int V, int n, затем n записей (int src, int dest, int weight, int id),
+ *          упорядоченных по возрастанию id.
+ * Ответ:   int status (OK или ERROR)
+ *          OK:    int k, затем k идентификаторов ребер остовного леса по возрастанию
+ *          ERROR: строка сообщения (writeUTF)
+ * </pre>
+ * Идентификатор - индекс ребра в исходном графе координатора; при равных весах рабочий
+ * предпочитает меньший id, как {@link com.alikhan_s.algorithm.KruskalMST}.
+ */
+final class ShardProtocol {
+    static final int FOREST = 1;
+    static final int SHUTDOWN = 0;
+    static final int OK = 0;
+    static final int ERROR = 1;
+
+    private ShardProtocol() {
+    }
+
+    /**
+     * Набор ребер с идентификаторами, упорядоченный по возрастанию id.
+     */
+    static final class EdgeBatch {
+        final int[] src;
+        final int[] dest;
+        final int[] weight;
+        final int[] ids;
+        final int size;
+
+        EdgeBatch(int[] src, int[] dest, int[] weight, int[] ids, int size) {
+            this.src = src;
+            this.dest = dest;
+            this.weight = weight;
+            this.ids = ids;
+            this.size = size;
+        }
+    }
+
+    static void writeForestRequest(DataOutputStream out, int V, EdgeBatch batch) throws IOException {
+        out.writeInt(FOREST);
+        out.writeInt(V);
+        out.writeInt(batch.size);
+        for (int i = 0; i < batch.size; i++) {
+            out.writeInt(batch.src[i]);
+            out.writeInt(batch.dest[i]);
+            out.writeInt(batch.weight[i]);
+            out.writeInt(batch.ids[i]);
+        }
+        out.flush();
+    }
+
+    static EdgeBatch readEdges(DataInputStream in, int n) throws IOException {
+        if (n < 0) {
+            throw new IOException("Некорректное число ребер: " + n);
+        }
+        int[] src = new int[n];
+        int[] dest = new int[n];
+        int[] weight = new int[n];
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            src[i] = in.readInt();
+            dest[i] = in.readInt();
+            weight[i] = in.readInt();
+            ids[i] = in.readInt();
+        }
+        return new EdgeBatch(src, dest, weight, ids, n);
+    }
+
+    static void writeIds(DataOutputStream out, int[] ids) throws IOException {
+        out.writeInt(OK);
+        out.writeInt(ids.length);
+        for (int id : ids) {
+            out.writeInt(id);
+        }
+        out.flush();
+    }
+
+    /**
+     * Читает ответ рабочего.
+     *
+     * @throws IOException если рабочий вернул ошибку или поток оборвался.
+     */
+    static int[] readIds(DataInputStream in) throws IOException {
+        int status = in.readInt();
+        if (status == ERROR) {
+            throw new IOException("Ошибка рабочего процесса: " + in.readUTF());
+        }
+        if (status != OK) {
+            throw new IOException("Неизвестный статус ответа: " + status);
+        }
+        int k = in.readInt();
+        if (k < 0) {
+            throw new IOException("Некорректное число ребер: " + k);
+        }
+        int[] ids = new int[k];
+        for (int i = 0; i < k; i++) {
+            ids[i] = in.readInt();
+        }
+        return ids;
+    }
+}
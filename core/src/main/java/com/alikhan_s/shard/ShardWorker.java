@@ -0,0 +1,97 @@
+package com.alikhan_s.shard;
+
+import com.alikhan_s.algorithm.KruskalMST;
+import com.alikhan_s.algorithm.MSTStrategy;
+import com.alikhan_s.model.CompactGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Рабочий процесс шардированного построения: {@code ShardWorker [strategyClass]}.
+ * Читает запросы {@link ShardProtocol} из stdin и пишет ответы в stdout; на каждый запрос
+ * строит остовный лес присланных ребер заданной стратегией (по умолчанию {@link KruskalMST}).
+ * Протокол не зависит от транспорта: для сокета достаточно вызвать {@link #serve} с его потоками.
+ */
+public final class ShardWorker {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final MSTStrategy strategy;
+
+    public ShardWorker(MSTStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public static void main(String[] args) throws IOException {
+        MSTStrategy strategy = args.length > 0 ? instantiate(args[0]) : new KruskalMST();
+        // stdout занят протоколом: случайный вывод в System.out сломал бы поток ответов.
+        OutputStream protocolOut = System.out;
+        System.setOut(System.err);
+        new ShardWorker(strategy).serve(System.in, protocolOut);
+    }
+
+    /**
+     * Обслуживает запросы до команды SHUTDOWN или конца входного потока.
+     */
+    public void serve(InputStream input, OutputStream output) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, BUFFER_SIZE));
+        while (true) {
+            int op;
+            try {
+                op = in.readInt();
+            } catch (EOFException e) {
+                return;
+            }
+            if (op == ShardProtocol.SHUTDOWN) {
+                return;
+            }
+            if (op != ShardProtocol.FOREST) {
+                throw new IOException("Неизвестная команда: " + op);
+            }
+            int V = in.readInt();
+            ShardProtocol.EdgeBatch batch = ShardProtocol.readEdges(in, in.readInt());
+            int[] forest;
+            try {
+                forest = forest(V, batch);
+            } catch (RuntimeException e) {
+                out.writeInt(ShardProtocol.ERROR);
+                out.writeUTF(String.valueOf(e.getMessage()));
+                out.flush();
+                continue;
+            }
+            ShardProtocol.writeIds(out, forest);
+        }
+    }
+
+    /**
+     * Остовный лес набора ребер: идентификаторы принятых ребер по возрастанию.
+     * Ребра пришли упорядоченными по id, поэтому локальный индекс упорядочен так же,
+     * и равные веса разрешаются в пользу меньшего id.
+     */
+    int[] forest(int V, ShardProtocol.EdgeBatch batch) {
+        CompactGraph view = CompactGraph.of(V, batch.src, batch.dest, batch.weight, batch.size);
+        int[] local = strategy.buildMSTIndices(view);
+        int[] ids = new int[local.length];
+        for (int i = 0; i < local.length; i++) {
+            ids[i] = batch.ids[local[i]];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static MSTStrategy instantiate(String className) {
+        try {
+            return (MSTStrategy) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Не удалось создать стратегию " + className + ": " + e, e);
+        }
+    }
+}
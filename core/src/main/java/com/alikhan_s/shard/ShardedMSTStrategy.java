@@ -0,0 +1,266 @@
+package com.alikhan_s.shard;
+
+import com.alikhan_s.algorithm.KruskalMST;
+import com.alikhan_s.algorithm.MSTStrategy;
+import com.alikhan_s.model.GraphView;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Построение MST на нескольких локальных процессах ({@link ShardWorker}).
+ * <p>
+ * Ребра графа делятся на N непрерывных диапазонов индексов, каждый рабочий строит
+ * остовный лес своего диапазона. Затем леса попарно сливаются деревом редукции: объединение
+ * двух лесов (не больше 2(V - 1) ребер) снова отправляется рабочему, пока не останется один лес.
+ * Ребро, не попавшее в остовный лес части графа, самое тяжелое на некотором цикле и в MST
+ * всего графа не входит, поэтому результат совпадает с {@link KruskalMST}: те же индексы
+ * в том же порядке, если рабочие используют стратегию с порядком (вес, индекс).
+ * <p>
+ * Рабочие - обычные JVM с тем же classpath, общение идет по каналам stdin/stdout
+ * ({@link ShardProtocol}). Процессы запускаются при первом построении и живут до {@link #close()};
+ * после ошибки построения они завершаются, и следующее построение запускает новые.
+ */
+public class ShardedMSTStrategy implements MSTStrategy, AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final int workerCount;
+    private final String workerStrategy;
+    private final List<WorkerProcess> workers = new ArrayList<>();
+    private ExecutorService executor;
+
+    /**
+     * Рабочие строят леса алгоритмом Крускала.
+     */
+    public ShardedMSTStrategy(int workerCount) {
+        this(workerCount, KruskalMST.class);
+    }
+
+    /**
+     * @param workerStrategy Стратегия рабочих; нужен открытый конструктор без аргументов.
+     * @throws IllegalArgumentException если workerCount < 1.
+     */
+    public ShardedMSTStrategy(int workerCount, Class<? extends MSTStrategy> workerStrategy) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Нужен хотя бы один рабочий процесс");
+        }
+        this.workerCount = workerCount;
+        this.workerStrategy = workerStrategy.getName();
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * @throws UncheckedIOException  если рабочий процесс не запустился или оборвал связь.
+     * @throws IllegalStateException если поток прерван во время ожидания рабочих.
+     */
+    @Override
+    public synchronized int[] buildMSTIndices(GraphView view) {
+        try {
+            start();
+            int E = view.edgeCount();
+            List<Future<int[]>> pending = new ArrayList<>(workerCount);
+            for (int w = 0; w < workerCount; w++) {
+                int from = (int) ((long) E * w / workerCount);
+                int to = (int) ((long) E * (w + 1) / workerCount);
+                pending.add(submit(w, view, range(view, from, to)));
+            }
+            List<int[]> forests = collect(pending);
+
+            // Дерево редукции: на каждом уровне пары лесов сливаются параллельно.
+            while (forests.size() > 1) {
+                pending.clear();
+                for (int i = 0; i + 1 < forests.size(); i += 2) {
+                    pending.add(submit((i / 2) % workerCount, view, union(view, forests.get(i), forests.get(i + 1))));
+                }
+                List<int[]> next = collect(pending);
+                if (forests.size() % 2 == 1) {
+                    next.add(forests.get(forests.size() - 1));
+                }
+                forests = next;
+            }
+            return kruskalOrder(view, forests.get(0));
+        } catch (IOException e) {
+            // Каналы упавшего или прерванного обмена рассинхронизированы: следующее
+            // построение запускает рабочих заново.
+            close();
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Построение прервано", e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Завершает рабочие процессы.
+     */
+    @Override
+    public synchronized void close() {
+        for (WorkerProcess worker : workers) {
+            worker.shutdown();
+        }
+        workers.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void start() throws IOException {
+        if (!workers.isEmpty()) {
+            return;
+        }
+        try {
+            for (int w = 0; w < workerCount; w++) {
+                workers.add(new WorkerProcess(workerStrategy));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        executor = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "mst-shard-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private Future<int[]> submit(int worker, GraphView view, ShardProtocol.EdgeBatch batch) {
+        WorkerProcess process = workers.get(worker);
+        return executor.submit(() -> process.forest(view.getV(), batch));
+    }
+
+    private static List<int[]> collect(List<Future<int[]>> pending) throws IOException, InterruptedException {
+        List<int[]> result = new ArrayList<>(pending.size());
+        for (Future<int[]> future : pending) {
+            try {
+                result.add(future.get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IllegalStateException("Ошибка шардированного построения", e.getCause());
+            }
+        }
+        return result;
+    }
+
+    private static ShardProtocol.EdgeBatch range(GraphView view, int from, int to) {
+        int[] ids = new int[to - from];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = from + i;
+        }
+        return batch(view, ids);
+    }
+
+    /**
+     * Объединение двух лесов с сохранением порядка id (слияние отсортированных массивов).
+     */
+    private static ShardProtocol.EdgeBatch union(GraphView view, int[] a, int[] b) {
+        int[] ids = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            ids[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        while (i < a.length) {
+            ids[k++] = a[i++];
+        }
+        while (j < b.length) {
+            ids[k++] = b[j++];
+        }
+        return batch(view, ids);
+    }
+
+    private static ShardProtocol.EdgeBatch batch(GraphView view, int[] ids) {
+        int n = ids.length;
+        int[] src = new int[n];
+        int[] dest = new int[n];
+        int[] weight = new int[n];
+        for (int i = 0; i < n; i++) {
+            src[i] = view.src(ids[i]);
+            dest[i] = view.dest(ids[i]);
+            weight[i] = view.weight(ids[i]);
+        }
+        return new ShardProtocol.EdgeBatch(src, dest, weight, ids, n);
+    }
+
+    /**
+     * Упорядочивает ребра как {@link KruskalMST}: по паре (вес, индекс).
+     */
+    private static int[] kruskalOrder(GraphView view, int[] ids) {
+        long[] keys = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            keys[i] = ((long) view.weight(ids[i]) << 32) | ids[i];
+        }
+        Arrays.sort(keys);
+        int[] result = new int[ids.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = (int) keys[i];
+        }
+        return result;
+    }
+
+    /**
+     * Один рабочий процесс и его каналы; запросы к нему идут строго по очереди.
+     */
+    private static final class WorkerProcess {
+        private final Process process;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+
+        WorkerProcess(String strategy) throws IOException {
+            Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+            ProcessBuilder builder = new ProcessBuilder(java.toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    ShardWorker.class.getName(), strategy);
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            process = builder.start();
+            out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream(), BUFFER_SIZE));
+            in = new DataInputStream(new BufferedInputStream(process.getInputStream(), BUFFER_SIZE));
+        }
+
+        synchronized int[] forest(int V, ShardProtocol.EdgeBatch batch) throws IOException {
+            ShardProtocol.writeForestRequest(out, V, batch);
+            return ShardProtocol.readIds(in);
+        }
+
+        void shutdown() {
+            try {
+                out.writeInt(ShardProtocol.SHUTDOWN);
+                out.close();
+            } catch (IOException e) {
+                // Процесс уже завершился; ниже он будет убит, если еще жив.
+            }
+            try {
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
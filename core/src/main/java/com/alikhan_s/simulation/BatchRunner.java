@@ -0,0 +1,272 @@
+package com.alikhan_s.simulation;
+
+import com.alikhan_s.algorithm.MSTBuilder;
+import com.alikhan_s.algorithm.MSTStrategy;
+import com.alikhan_s.io.GraphJsonLoader;
+import com.alikhan_s.io.MappedGraph;
+import com.alikhan_s.metrics.Metrics;
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.RemovalPolicy;
+import com.alikhan_s.shard.ShardedMSTStrategy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Пакетный запуск сценария "удалить - переподключить" без JavaFX:
+ * {@code BatchRunner <graph.json|graph.bin> <iterations> [seed] [threads] [policy]},
+ * где policy - правило удаления: middle (по умолчанию), middle-weight, heaviest, weighted.
+ * <p>
+ * Каждый поток строит собственный MST над общим (только для чтения) графом и выполняет
+ * свою долю циклов со своим генератором, полученным из seed. Выводит пропускную
+ * способность и перцентили задержки одного цикла, а с {@code -Dmst.metrics=true} - еще
+ * и снимок {@link Metrics}. С {@code -Dmst.shards=N} MST строится на N рабочих процессах
+ * ({@link ShardedMSTStrategy}).
+ */
+public final class BatchRunner {
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private BatchRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2 || args.length > 5) {
+            System.err.println("Использование: BatchRunner <graph.json|graph.bin> <iterations> [seed] [threads] [policy]");
+            System.exit(2);
+        }
+        int iterations;
+        long seed;
+        int threads;
+        try {
+            iterations = Integer.parseInt(args[1]);
+            seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+            threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        } catch (NumberFormatException e) {
+            System.err.println("Некорректное число: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        RemovalPolicy policy;
+        try {
+            policy = args.length > 4 ? RemovalPolicy.byName(args[4]) : RemovalPolicy.middleRange();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        long loadStart = System.nanoTime();
+        Graph graph = loadGraph(Paths.get(args[0]));
+        System.out.printf("Граф: V=%d, E=%d, загружен за %.1f мс%n",
+                graph.getV(), graph.edgeCount(), (System.nanoTime() - loadStart) / 1e6);
+
+        int shards = Integer.getInteger("mst.shards", 0);
+        Result result;
+        if (shards > 0) {
+            try (ShardedMSTStrategy sharded = new ShardedMSTStrategy(shards)) {
+                result = run(graph, sharded, policy, iterations, seed, threads);
+            }
+        } else {
+            result = run(graph, new MSTBuilder().getBestStrategy(graph), policy, iterations, seed, threads);
+        }
+        System.out.print(result);
+        if (Metrics.ENABLED) {
+            System.out.println("Метрики:");
+            System.out.print(Metrics.snapshot());
+        }
+    }
+
+    /**
+     * Загружает граф из JSON или из бинарного формата (по расширению .bin).
+     */
+    public static Graph loadGraph(Path path) throws IOException {
+        if (!path.getFileName().toString().endsWith(".bin")) {
+            return GraphJsonLoader.load(path, null);
+        }
+        MappedGraph mapped = MappedGraph.open(path);
+        int E = mapped.edgeCount();
+        int[] src = new int[E];
+        int[] dest = new int[E];
+        int[] weight = new int[E];
+        for (int e = 0; e < E; e++) {
+            src[e] = mapped.src(e);
+            dest[e] = mapped.dest(e);
+            weight[e] = mapped.weight(e);
+        }
+        return Graph.fromArrays(mapped.getV(), src, dest, weight, E);
+    }
+
+    /**
+     * Выполняет iterations циклов с правилом удаления {@link RemovalPolicy#middleRange()}.
+     */
+    public static Result run(Graph graph, MSTStrategy strategy, int iterations, long seed, int threads)
+            throws InterruptedException {
+        return run(graph, strategy, RemovalPolicy.middleRange(), iterations, seed, threads);
+    }
+
+    /**
+     * Выполняет iterations циклов, распределенных между threads потоками.
+     *
+     * @throws IllegalArgumentException если iterations < 0 или threads < 1.
+     */
+    public static Result run(Graph graph, MSTStrategy strategy, RemovalPolicy policy, int iterations, long seed,
+                             int threads) throws InterruptedException {
+        if (iterations < 0 || threads < 1) {
+            throw new IllegalArgumentException("Нужно iterations >= 0 и threads >= 1");
+        }
+        // Индекс смежности строится заранее, чтобы потоки не собирали его наперегонки.
+        graph.view();
+
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Worker> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int share = iterations / threads + (t < iterations % threads ? 1 : 0);
+            workers.add(new Worker(new SplitReconnectSimulation(graph, strategy, policy, root.split()), share));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            for (Future<Worker> future : executor.invokeAll(workers)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка в потоке симуляции", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        long wallNanos = System.nanoTime() - start;
+        return new Result(strategy, policy, threads, seed, wallNanos, workers);
+    }
+
+    /**
+     * Доля циклов одного потока: задержки каждого цикла и время построения MST.
+     */
+    private static final class Worker implements Callable<Worker> {
+        private final SplitReconnectSimulation simulation;
+        private final long[] latencies;
+        private long buildNanos;
+        private int failures;
+
+        Worker(SplitReconnectSimulation simulation, int iterations) {
+            this.simulation = simulation;
+            this.latencies = new long[iterations];
+        }
+
+        @Override
+        public Worker call() {
+            long t0 = System.nanoTime();
+            simulation.build();
+            buildNanos = System.nanoTime() - t0;
+
+            for (int i = 0; i < latencies.length; i++) {
+                long start = System.nanoTime();
+                boolean ok = simulation.cycle();
+                latencies[i] = System.nanoTime() - start;
+                if (!ok) {
+                    // Граф несвязный или MST пуст: начинаем с целого дерева.
+                    failures++;
+                    simulation.build();
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Сводка пакетного запуска.
+     */
+    public static final class Result {
+        private final String strategy;
+        private final String policy;
+        private final int threads;
+        private final long seed;
+        private final long wallNanos;
+        private final long[] latencies;
+        private final long maxBuildNanos;
+        private final int failures;
+
+        private Result(MSTStrategy strategy, RemovalPolicy policy, int threads, long seed, long wallNanos,
+                       List<Worker> workers) {
+            this.strategy = strategy.getClass().getSimpleName();
+            this.policy = policy.toString();
+            this.threads = threads;
+            this.seed = seed;
+            this.wallNanos = wallNanos;
+
+            int total = 0;
+            long build = 0;
+            int failed = 0;
+            for (Worker worker : workers) {
+                total += worker.latencies.length;
+                build = Math.max(build, worker.buildNanos);
+                failed += worker.failures;
+            }
+            this.latencies = new long[total];
+            int offset = 0;
+            for (Worker worker : workers) {
+                System.arraycopy(worker.latencies, 0, latencies, offset, worker.latencies.length);
+                offset += worker.latencies.length;
+            }
+            Arrays.sort(latencies);
+            this.maxBuildNanos = build;
+            this.failures = failed;
+        }
+
+        public int iterations() {
+            return latencies.length;
+        }
+
+        public int failures() {
+            return failures;
+        }
+
+        /**
+         * Циклов в секунду по всем потокам (включая построение MST в каждом потоке).
+         */
+        public double throughput() {
+            return wallNanos == 0 ? 0 : latencies.length * 1e9 / wallNanos;
+        }
+
+        /**
+         * Задержка цикла в наносекундах для перцентиля p из (0, 1].
+         */
+        public long percentileNanos(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Стратегия: %s, удаление: %s, потоков: %d, seed: %d%n", strategy, policy, threads, seed));
+            sb.append(String.format("Циклов: %d (неудачных: %d) за %.1f мс, построение MST до %.1f мс%n",
+                    latencies.length, failures, wallNanos / 1e6, maxBuildNanos / 1e6));
+            sb.append(String.format("Пропускная способность: %.0f циклов/с%n", throughput()));
+            sb.append("Задержка цикла, мкс:");
+            for (double p : PERCENTILES) {
+                sb.append(String.format(" p%s=%.1f", formatPercentile(p), percentileNanos(p) / 1e3));
+            }
+            sb.append(String.format(" max=%.1f%n", percentileNanos(1.0) / 1e3));
+            return sb.toString();
+        }
+
+        private static String formatPercentile(double p) {
+            String s = Double.toString(p * 100);
+            return s.endsWith(".0") ? s.substring(0, s.length() - 2) : s;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.alikhan_s.simulation;
+
+import com.alikhan_s.algorithm.MSTStrategy;
+import com.alikhan_s.model.BatchReconnect;
+import com.alikhan_s.model.Edge;
+import com.alikhan_s.model.Graph;
+import com.alikhan_s.model.MST;
+import com.alikhan_s.model.MSTHistory;
+import com.alikhan_s.model.MSTSnapshot;
+import com.alikhan_s.model.RemovalPolicy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Сценарий демонстрации без UI: построить MST, удалить ребро, разделить дерево
+ * на компоненты, найти соединяющее ребро и объединить их обратно.
+ * Используется и окном JavaFX (по одному шагу на кнопку), и пакетным запуском.
+ * Экземпляр не потокобезопасен: для параллельных прогонов у каждого потока свой.
+ * <p>
+ * История версий включается {@link #enableHistory(int)} (ее использует UI): тогда каждый шаг
+ * фиксирует неизменяемую версию, которую можно читать из других потоков через
+ * {@link #getSnapshot()}, и работают отмена и повтор. Без истории шаги снимков не делают.
+ */
+public class SplitReconnectSimulation {
+    private final Graph graph;
+    private final MSTStrategy strategy;
+    private final RemovalPolicy policy;
+    private final RandomGenerator random;
+
+    private MST currentMST;
+    private volatile MSTHistory history;
+    /** Глубина истории отмены; 0 - история выключена. */
+    private int historyDepth;
+    private List<MST> splitComponents;
+    private Edge removedEdge;
+    private Edge connectingEdge;
+
+    /**
+     * Сценарий с удалением ребер из среднего диапазона ({@link RemovalPolicy#middleRange()}).
+     *
+     * @param random Генератор для выбора удаляемого ребра.
+     */
+    public SplitReconnectSimulation(Graph graph, MSTStrategy strategy, RandomGenerator random) {
+        this(graph, strategy, RemovalPolicy.middleRange(), random);
+    }
+
+    /**
+     * @param policy Правило выбора удаляемого ребра; сценарий берет свою копию ({@link RemovalPolicy#forSimulation()}).
+     * @param random Генератор для выбора удаляемого ребра.
+     */
+    public SplitReconnectSimulation(Graph graph, MSTStrategy strategy, RemovalPolicy policy, RandomGenerator random) {
+        this.graph = graph;
+        this.strategy = strategy;
+        this.policy = policy.forSimulation();
+        this.random = random;
+    }
+
+    /**
+     * Включает историю версий с отменой до maxDepth шагов. Действует с ближайшего {@link #build()}.
+     *
+     * @throws IllegalArgumentException если maxDepth < 1.
+     */
+    public void enableHistory(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Глубина истории должна быть положительной: " + maxDepth);
+        }
+        historyDepth = maxDepth;
+    }
+
+    /**
+     * Шаг 1: строит MST заново и сбрасывает состояние сценария.
+     */
+    public MST build() {
+        Set<Edge> mstEdges = strategy.buildMST(graph);
+        currentMST = new MST(graph, mstEdges);
+        history = historyDepth > 0 ? new MSTHistory(currentMST.snapshot(), historyDepth) : null;
+        splitComponents = null;
+        removedEdge = null;
+        connectingEdge = null;
+        return currentMST;
+    }
+
+    /**
+     * Шаг 2: удаляет ребро, выбранное правилом удаления, и делит дерево на компоненты.
+     *
+     * @return Удаленное ребро или null, если удалять нечего.
+     * @throws IllegalStateException если MST еще не построен.
+     */
+    public Edge removeEdge() {
+        if (currentMST == null) {
+            throw new IllegalStateException("Сначала постройте MST");
+        }
+        removedEdge = currentMST.removeEdge(policy, random);
+        connectingEdge = null;
+        splitComponents = removedEdge == null ? null : currentMST.splitIntoComponents();
+        if (removedEdge != null && history != null) {
+            history.commit(currentMST.snapshot(removedEdge, null));
+        }
+        return removedEdge;
+    }
+
+    /**
+     * Шаг 3: находит самое легкое ребро между компонентами и объединяет их.
+     *
+     * @return Соединяющее ребро или null, если компоненты нельзя соединить
+     *         (граф несвязный); тогда компоненты остаются разделенными.
+     * @throws IllegalStateException если перед этим не было удаления.
+     */
+    public Edge reconnect() {
+        if (splitComponents == null || splitComponents.size() < 2) {
+            throw new IllegalStateException("Нет компонент для объединения");
+        }
+        MST first = splitComponents.get(0);
+        MST second = splitComponents.get(1);
+        connectingEdge = first.findMinEdgeBetween(second);
+        if (connectingEdge == null) {
+            return null;
+        }
+        currentMST = first.unionWith(second, connectingEdge);
+        splitComponents = null;
+        if (history != null) {
+            history.commit(currentMST.snapshot(removedEdge, connectingEdge));
+        }
+        return connectingEdge;
+    }
+
+    /**
+     * Шаги 2 и 3 подряд.
+     *
+     * @return false, если ребро не удалось удалить или компоненты не соединились.
+     */
+    public boolean cycle() {
+        return removeEdge() != null && reconnect() != null;
+    }
+
+    /**
+     * Пакетный шаг: удаляет count ребер правилом удаления и восстанавливает лес
+     * по Борувке; удаленные ребра считаются недоступными только в этом шаге, а соединяются
+     * только компоненты, на которые он распался. Компоненты, оставшиеся разъединенными,
+     * следующие пакетные шаги не трогают, пока не удаляют в них ребра; {@link #cycle()} и
+     * {@link #reconnect()} могут снова использовать исключенные ребра.
+     *
+     * @throws IllegalStateException если MST еще не построен.
+     */
+    public BatchReconnect batchCycle(int count) {
+        if (currentMST == null) {
+            throw new IllegalStateException("Сначала постройте MST");
+        }
+        List<Edge> removed = currentMST.removeEdges(count, policy, random);
+        BatchReconnect result = currentMST.reconnectComponents(removed, false);
+        removedEdge = null;
+        connectingEdge = null;
+        splitComponents = null;
+        if (history != null) {
+            history.commit(currentMST.snapshot());
+        }
+        return result;
+    }
+
+    /**
+     * Отменяет последний шаг: MST восстанавливается из предыдущей версии истории.
+     * Лес строится заново за O(V log V) (см. {@link MSTSnapshot#toMST()}).
+     *
+     * @return Восстановленная версия или null, если отменять нечего.
+     * @throws IllegalStateException если история не включена или MST еще не построен.
+     */
+    public MSTSnapshot undo() {
+        return restore(requireHistory().undo());
+    }
+
+    /**
+     * Повторяет отмененный шаг; стоит столько же, сколько {@link #undo()}.
+     *
+     * @return Восстановленная версия или null, если повторять нечего.
+     * @throws IllegalStateException если история не включена или MST еще не построен.
+     */
+    public MSTSnapshot redo() {
+        return restore(requireHistory().redo());
+    }
+
+    public boolean canUndo() {
+        return history != null && history.canUndo();
+    }
+
+    public boolean canRedo() {
+        return history != null && history.canRedo();
+    }
+
+    /**
+     * Текущая неизменяемая версия MST; ее можно читать из любого потока, пока сценарий
+     * выполняет следующий шаг. null, если история не включена или MST еще не построен.
+     */
+    public MSTSnapshot getSnapshot() {
+        MSTHistory h = history;
+        return h == null ? null : h.current();
+    }
+
+    private MSTHistory requireHistory() {
+        if (history == null) {
+            throw new IllegalStateException("История не включена или MST еще не построен");
+        }
+        return history;
+    }
+
+    /**
+     * Перестраивает изменяемое MST по версии; для версии после удаления ребра
+     * восстанавливаются и две компоненты.
+     */
+    private MSTSnapshot restore(MSTSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        currentMST = snapshot.toMST();
+        removedEdge = snapshot.getRemovedEdge();
+        connectingEdge = snapshot.getAddedEdge();
+        splitComponents = snapshot.isSplit()
+                ? List.of(currentMST.componentOf(removedEdge.src), currentMST.componentOf(removedEdge.dest))
+                : null;
+        return snapshot;
+    }
+
+    public boolean isSplit() {
+        return splitComponents != null;
+    }
+
+    public Graph getGraph() {
+        return graph;
+    }
+
+    public MSTStrategy getStrategy() {
+        return strategy;
+    }
+
+    public RemovalPolicy getPolicy() {
+        return policy;
+    }
+
+    public MST getCurrentMST() {
+        return currentMST;
+    }
+
+    public Edge getRemovedEdge() {
+        return removedEdge;
+    }
+
+    public Edge getConnectingEdge() {
+        return connectingEdge;
+    }
+}